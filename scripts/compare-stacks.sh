@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# MVC(TodoApplication) 와 WebFlux(ReactiveTodoApplication) 할 일 API 처리량/지연 비교
+#
+# 준비:
+#   1) 두 서버를 같은 DB 로 실행 (./gradlew bootRun, ./gradlew bootRunReactive)
+#   2) 로그인해서 받은 액세스 토큰을 TOKEN 환경 변수에 설정 (jwt.lifetime.access 를 충분히 길게)
+#   3) hey 설치 (https://github.com/rakyll/hey)
+#
+# 사용: TOKEN=... ./scripts/compare-stacks.sh [동시 접속 수...]
+#   MVC_URL, REACTIVE_URL, DURATION 으로 대상과 시간을 바꿀 수 있습니다.
+set -euo pipefail
+
+: "${TOKEN:?TOKEN 환경 변수에 액세스 토큰을 설정해 주세요.}"
+MVC_URL="${MVC_URL:-http://localhost:8080}"
+REACTIVE_URL="${REACTIVE_URL:-http://localhost:8282}"
+DURATION="${DURATION:-30s}"
+if [ "$#" -gt 0 ]; then CONCURRENCY=("$@"); else CONCURRENCY=(50 200 1000); fi
+
+run() {
+  local name="$1" url="$2" c="$3"
+  # 워밍업 (JIT, 커넥션 풀)
+  hey -z 5s -c "$c" -H "Authorization: Bearer $TOKEN" "$url/api/todos" > /dev/null
+  echo "== $name, 동시 접속 $c, $DURATION"
+  hey -z "$DURATION" -c "$c" -H "Authorization: Bearer $TOKEN" "$url/api/todos" \
+    | grep -E "Requests/sec|Average|99%|95%|50%|\[[0-9]{3}\]"
+}
+
+for c in "${CONCURRENCY[@]}"; do
+  run "mvc" "$MVC_URL" "$c"
+  run "reactive" "$REACTIVE_URL" "$c"
+done
@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# 로그 설정에 따른 요청 처리 비용 비교 - 초당 5천 요청(고정 부하)에서 지연과 요청당 CPU 시간을 측정
+#   sync   : 스프링 부트 기본 콘솔 출력 (scripts/logback-sync.xml), 요청 로그(REQUEST 마커)를 모두 출력
+#   shipped: logback-spring.xml (비동기 출력, 토큰 가리기) + prod 의 요청 로그 샘플링 1%
+# 지워진 토큰/DTO 로그 줄은 코드에서 빠졌으므로 비교 대상은 로그 설정만이다.
+# 로그는 파일로 출력 (실제 운영처럼 디스크에 쓰도록), 요청당 CPU 시간은 /proc 에서 읽으므로 리눅스에서 실행해야 합니다.
+# 내장 DB(embedded 프로필)로 실행하므로 외부 DB 없이 로컬에서 실행 가능
+#
+# 준비:
+#   1) ./gradlew bootJar
+#   2) hey 설치 (https://github.com/rakyll/hey)
+#
+# 사용: ./scripts/logging-load-test.sh
+#   RATE        : 초당 요청 수 (기본 5000), CONCURRENCY(기본 50) 개의 클라이언트가 나눠서 보냄
+#   DURATION    : 측정 시간 (기본 60s), 측정 전에 WARMUP(기본 20s) 동안 같은 부하로 JIT 워밍업
+set -euo pipefail
+
+RATE="${RATE:-5000}"
+CONCURRENCY="${CONCURRENCY:-50}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-20s}"
+PORT="${PORT:-8080}"
+JAR="${JAR:-build/libs/todo-0.0.1-SNAPSHOT.jar}"
+URL="http://127.0.0.1:$PORT"
+CLK_TCK=$(getconf CLK_TCK)
+APP_ARGS=(--spring.profiles.active=embedded --server.port="$PORT" --warmup.enabled=false --jwt.lifetime.access=1h)
+
+# 프로세스가 사용한 CPU 시간 (user + system, 틱)
+cpu_ticks() {
+  awk '{ print $14 + $15 }' "/proc/$1/stat"
+}
+
+token() {
+  curl -sf -F 'user={"email":"logging@todo.local","userName":"로그","password":"password1234"};type=application/json' \
+    "$URL/api/auth" > /dev/null
+  curl -sf -H 'Content-Type: application/json' \
+    -d '{"email":"logging@todo.local","password":"password1234"}' "$URL/api/auth/signin" \
+    | python3 -c 'import json,sys; print(json.load(sys.stdin)["token"]["access_token"])'
+}
+
+APP_PID=""
+trap '[ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+run() {
+  local name="$1" log="build/logging-load-test-$1.log" token before after result; shift
+  java -jar "$JAR" "${APP_ARGS[@]}" "$@" > "$log" 2>&1 &
+  APP_PID=$!
+  until curl -sf "$URL/actuator/health" > /dev/null; do
+    if ! kill -0 "$APP_PID" 2> /dev/null; then
+      echo "$name 실행 실패 - $log 를 확인하세요." >&2
+      return 1
+    fi
+    sleep 0.5
+  done
+
+  token=$(token)
+  # hey 의 -q 는 클라이언트 하나당 초당 요청 수
+  hey -z "$WARMUP" -c "$CONCURRENCY" -q $(( RATE / CONCURRENCY )) \
+    -H "Authorization: Bearer $token" "$URL/api/todos" > /dev/null
+  before=$(cpu_ticks "$APP_PID")
+  local log_before
+  log_before=$(stat -c %s "$log")
+  result=$(hey -z "$DURATION" -c "$CONCURRENCY" -q $(( RATE / CONCURRENCY )) \
+    -H "Authorization: Bearer $token" "$URL/api/todos")
+  after=$(cpu_ticks "$APP_PID")
+
+  echo "== $name"
+  echo "$result" | grep -E "Requests/sec|Average|99%|95%|50%|\[[0-9]{3}\]"
+  python3 - "$result" "$(( after - before ))" "$CLK_TCK" "$(( $(stat -c %s "$log") - log_before ))" <<'PY'
+import re, sys
+hey, ticks, clk, log_bytes = sys.argv[1], int(sys.argv[2]), int(sys.argv[3]), int(sys.argv[4])
+requests = sum(int(n) for n in re.findall(r"\[2\d\d\]\s+(\d+) responses", hey))
+if requests:
+    cpu_ms = ticks * 1000 / clk / requests
+    print(f"  요청당 CPU: {cpu_ms:.3f} ms (코어 하나로 약 {1000 / cpu_ms:,.0f} req/s), 요청당 로그: {log_bytes / requests:.0f} byte")
+PY
+
+  kill "$APP_PID"; wait "$APP_PID" 2> /dev/null || true
+  APP_PID=""
+}
+
+mkdir -p build
+run sync --logging.config=scripts/logback-sync.xml
+run shipped --logging.request-sample-rate=0.01
@@ -0,0 +1,147 @@
+#!/usr/bin/env bash
+# 커넥션 풀 / 드라이버 설정 부하 테스트 - 기본 설정과 prod 프로필을 같은 부하로 비교해서 보고서를 만든다.
+#
+# 준비:
+#   1) ./gradlew bootJar
+#   2) 로컬 MySQL 과 application.yml(커밋하지 않는 개발자별 설정)의 DB 접속 정보
+#   3) 테스트에 사용할 회원 (EMAIL, PASSWORD 환경 변수)
+#   4) hey 설치 (https://github.com/rakyll/hey)
+#
+# 사용: EMAIL=... PASSWORD=... ./scripts/pool-load-test.sh
+#   PROFILES    : 비교할 프로필 (기본 "default prod")
+#   DURATION    : 측정 시간 (기본 60s), 측정 전에 WARMUP(기본 20s) 동안 같은 부하로 JIT 워밍업
+#   CONCURRENCY : 목록 조회(GET /api/todos) 동시 요청 수 (기본 100), 완료 여부 변경(PUT)은 그 1/10
+#   REPORT      : 결과를 추가할 파일 (기본 build/pool-load-test.md)
+#
+# DB 계층 외의 차이가 섞이지 않도록 로그 샘플링, 압축, 트레이싱, 워밍업, 토큰 수명은 두 실행 모두 같은 값으로 고정한다.
+# 풀 대기(pending)는 1초마다 읽은 값의 최대, acquire/usage 는 측정 구간의 평균과 최대 (hikaricp.connections.*)
+set -euo pipefail
+
+: "${EMAIL:?EMAIL 환경 변수에 테스트 회원의 이메일을 설정해 주세요.}"
+: "${PASSWORD:?PASSWORD 환경 변수에 테스트 회원의 비밀번호를 설정해 주세요.}"
+PROFILES="${PROFILES:-default prod}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-20s}"
+CONCURRENCY="${CONCURRENCY:-100}"
+PORT="${PORT:-8080}"
+JAR="${JAR:-build/libs/todo-0.0.1-SNAPSHOT.jar}"
+REPORT="${REPORT:-build/pool-load-test.md}"
+URL="http://127.0.0.1:$PORT"
+COMMON_ARGS=(
+  --server.port="$PORT"
+  --management.endpoints.web.exposure.include=health,prometheus
+  --management.tracing.enabled=false
+  --server.compression.enabled=false
+  --logging.request-sample-rate=0.01
+  --warmup.enabled=false
+  --jwt.lifetime.access=1h
+)
+
+# 프로메테우스 응답에서 이름이 같은 시계열의 합 (풀이 여러 개면 모두 더함)
+scrape() {
+  curl -s "$URL/actuator/prometheus" | python3 -c '
+import sys
+names = sys.argv[1:]
+values = dict.fromkeys(names, 0.0)
+for line in sys.stdin:
+    name = line.split("{")[0].split(" ")[0]
+    if name in values:
+        values[name] += float(line.rsplit(" ", 1)[1])
+print(" ".join(repr(values[n]) for n in names))' "$@"
+}
+
+login() {
+  curl -sf -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" "$URL/api/auth/signin" \
+    | python3 -c 'import json,sys; print(json.load(sys.stdin)["token"]["access_token"])'
+}
+
+# 변경할 할 일 - 없으면 하나 등록
+first_todo() {
+  local token="$1" id
+  id=$(curl -sf -H "Authorization: Bearer $token" "$URL/api/todos" \
+    | python3 -c 'import json,sys; t=json.load(sys.stdin)["todos"]; print(t[0]["id"] if t else "")')
+  if [ -z "$id" ]; then
+    id=$(curl -sf -H "Authorization: Bearer $token" -H 'Content-Type: application/json' \
+      -d '{"title":"부하 테스트"}' "$URL/api/todos" \
+      | python3 -c 'import json,sys; print(json.load(sys.stdin)["todos"][0]["id"])')
+  fi
+  echo "$id"
+}
+
+# 목록 조회와 완료 여부 변경을 함께 실행 -> 조회 쪽 hey 결과를 출력
+load() {
+  local duration="$1" token="$2" todo="$3" writer
+  hey -z "$duration" -c "$(( CONCURRENCY / 10 > 0 ? CONCURRENCY / 10 : 1 ))" -m PUT \
+    -H "Authorization: Bearer $token" -T application/json \
+    -d "{\"id\":\"$todo\",\"done\":true}" "$URL/api/todos" > /dev/null &
+  writer=$!
+  hey -z "$duration" -c "$CONCURRENCY" -H "Authorization: Bearer $token" "$URL/api/todos"
+  wait "$writer"
+}
+
+APP_PID=""
+trap '[ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+run() {
+  local profile="$1" log="build/pool-load-test-$1.log" token todo before after result pending_max sampler
+  java -jar "$JAR" --spring.profiles.active="$profile" "${COMMON_ARGS[@]}" > "$log" 2>&1 &
+  APP_PID=$!
+  until curl -sf "$URL/actuator/health" > /dev/null; do
+    if ! kill -0 "$APP_PID" 2> /dev/null; then
+      echo "$profile 실행 실패 - $log 를 확인하세요." >&2
+      return 1
+    fi
+    sleep 0.5
+  done
+
+  token=$(login)
+  todo=$(first_todo "$token")
+  echo "== $profile: 워밍업 $WARMUP" >&2
+  load "$WARMUP" "$token" "$todo" > /dev/null
+
+  echo "== $profile: 측정 $DURATION" >&2
+  before=$(scrape hikaricp_connections_acquire_seconds_sum hikaricp_connections_acquire_seconds_count \
+    hikaricp_connections_usage_seconds_sum hikaricp_connections_usage_seconds_count hikaricp_connections_timeout_total)
+  (while true; do scrape hikaricp_connections_pending; sleep 1; done) > "build/pool-load-test-$profile.pending" &
+  sampler=$!
+  result=$(load "$DURATION" "$token" "$todo")
+  kill "$sampler" 2>/dev/null || true
+  after=$(scrape hikaricp_connections_acquire_seconds_sum hikaricp_connections_acquire_seconds_count \
+    hikaricp_connections_usage_seconds_sum hikaricp_connections_usage_seconds_count hikaricp_connections_timeout_total \
+    hikaricp_connections_acquire_seconds_max hikaricp_connections_usage_seconds_max)
+  pending_max=$(sort -g "build/pool-load-test-$profile.pending" | tail -1)
+
+  python3 - "$profile" "$before" "$after" "$pending_max" "$result" <<'PY' >> "$REPORT"
+import re, sys
+profile, before, after, pending_max, hey = sys.argv[1], sys.argv[2].split(), sys.argv[3].split(), sys.argv[4], sys.argv[5]
+b, a = [float(v) for v in before], [float(v) for v in after]
+def mean(s, c):
+    count = a[c] - b[c]
+    return (a[s] - b[s]) / count * 1000 if count else 0.0
+def hey_value(pattern):
+    m = re.search(pattern, hey)
+    return m.group(1) if m else "0"
+rps = hey_value(r"Requests/sec:\s+([\d.]+)")
+p50 = float(hey_value(r"50% in ([\d.]+) secs") or 0) * 1000
+p99 = float(hey_value(r"99% in ([\d.]+) secs") or 0) * 1000
+print(f"| {profile} | {rps} | {p50:.1f} | {p99:.1f} | {float(pending_max or 0):.0f} "
+      f"| {mean(0, 1):.2f} / {a[5] * 1000:.1f} | {mean(2, 3):.2f} / {a[6] * 1000:.1f} | {a[4] - b[4]:.0f} |")
+PY
+
+  kill "$APP_PID"; wait "$APP_PID" 2> /dev/null || true
+  APP_PID=""
+}
+
+mkdir -p build
+{
+  echo
+  echo "## $(date '+%F %T') - GET 동시 $CONCURRENCY + PUT, $DURATION"
+  echo
+  echo "| 프로필 | GET req/s | p50 ms | p99 ms | 최대 대기(pending) | acquire 평균/최대 ms | usage 평균/최대 ms | 타임아웃 |"
+  echo "|---|---|---|---|---|---|---|---|"
+} >> "$REPORT"
+for profile in $PROFILES; do
+  run "$profile"
+done
+cat "$REPORT"
@@ -0,0 +1,114 @@
+#!/usr/bin/env bash
+# SSE(/api/todos/stream) 유휴 연결 5만 개를 유지하면서 서버 상태와 일반 요청 지연을 측정
+#
+# 준비:
+#   1) 서버 실행 (prod 프로필 권장, 한 회원으로 모든 연결을 열기 위해 회원당 연결 제한을 올림)
+#        ./gradlew bootRun --args='--spring.profiles.active=prod --todo.stream.max-connections-per-user=100000'
+#      서버와 이 스크립트를 실행하는 쪽 모두 파일 디스크립터 제한을 올린다. (ulimit -n 200000)
+#   2) 로그인해서 받은 액세스 토큰을 TOKEN 환경 변수에 설정 (jwt.lifetime.access 를 충분히 길게)
+#   3) hey 설치 (https://github.com/rakyll/hey)
+#
+# 사용: TOKEN=... ./scripts/sse-idle-load.sh [연결 수]
+#   URL                : 대상 서버 (기본 http://127.0.0.1:8080)
+#   HOLD               : 연결을 유지하는 시간(초), 그동안 30초마다 서버 메트릭 출력 (기본 300)
+#   STALLED            : 이벤트를 읽지 않는 연결 수 -> send-timeout 으로 끊기는지 확인 (기본 0)
+#   SOURCE_ADDRESSES   : 클라이언트 주소 개수. 주소 하나당 포트가 약 2.8만 개뿐이므로
+#                        로컬 테스트에서는 127.0.0.1 ~ 127.0.0.N 으로 나눠서 연결 (기본 4)
+set -euo pipefail
+
+: "${TOKEN:?TOKEN 환경 변수에 액세스 토큰을 설정해 주세요.}"
+URL="${URL:-http://127.0.0.1:8080}"
+CONNECTIONS="${1:-50000}"
+HOLD="${HOLD:-300}"
+STALLED="${STALLED:-0}"
+SOURCE_ADDRESSES="${SOURCE_ADDRESSES:-4}"
+
+metric() {
+  curl -s -H "Authorization: Bearer $TOKEN" "$URL/actuator/metrics/$1" \
+    | python3 -c 'import json,sys; d=json.load(sys.stdin); print(sum(m["value"] for m in d["measurements"] if m["statistic"] in ("VALUE","COUNT")))' \
+    2>/dev/null || echo "-"
+}
+
+report() {
+  echo "[$(date +%T)] 연결: $(metric todo.stream.connections)" \
+       "막힌 전송: $(metric todo.stream.stalled.sends)" \
+       "스레드: $(metric jvm.threads.live)" \
+       "힙(byte): $(metric jvm.memory.used)"
+}
+
+echo "== 연결 전"
+report
+
+# 연결을 열고 HOLD 초 동안 유지하는 클라이언트 (asyncio, 연결마다 스레드를 쓰지 않음)
+python3 - "$URL" "$TOKEN" "$CONNECTIONS" "$STALLED" "$SOURCE_ADDRESSES" "$HOLD" <<'PY' &
+import asyncio, socket, sys, time
+from urllib.parse import urlparse
+
+url, token, total, stalled, sources, hold = sys.argv[1], sys.argv[2], int(sys.argv[3]), int(sys.argv[4]), int(sys.argv[5]), int(sys.argv[6])
+target = urlparse(url)
+host, port = target.hostname, target.port or 80
+local = host.startswith("127.")
+request = (f"GET /api/todos/stream HTTP/1.1\r\nHost: {host}\r\nAccept: text/event-stream\r\n"
+           f"Authorization: Bearer {token}\r\n\r\n").encode()
+opened, failed = 0, 0
+
+async def connect(i):
+    global opened, failed
+    sock = socket.socket(socket.AF_INET, socket.SOCK_STREAM)
+    sock.setblocking(False)
+    if local:
+        sock.bind((f"127.0.0.{1 + i % sources}", 0))
+    reading = i >= stalled
+    if not reading:
+        # 받기 버퍼를 작게 잡고 읽지 않는 연결 -> 서버 쓰기가 막힌다.
+        sock.setsockopt(socket.SOL_SOCKET, socket.SO_RCVBUF, 1024)
+    try:
+        await asyncio.get_running_loop().sock_connect(sock, (host, port))
+        reader, writer = await asyncio.open_connection(sock=sock)
+        writer.write(request)
+        await writer.drain()
+        status = await reader.readline()
+        if b" 200 " not in status:
+            raise RuntimeError(status.decode(errors="replace").strip())
+        opened += 1
+        if reading:
+            while await reader.read(4096):
+                pass
+        else:
+            await asyncio.sleep(hold)
+    except Exception as e:
+        failed += 1
+        if failed <= 5:
+            print(f"연결 실패: {e}", file=sys.stderr)
+
+async def main():
+    started = time.monotonic()
+    tasks = []
+    for i in range(total):
+        tasks.append(asyncio.create_task(connect(i)))
+        # 한꺼번에 SYN 을 보내면 accept-count 를 넘으므로 나눠서 연결
+        if i % 1000 == 999:
+            await asyncio.sleep(0.2)
+    await asyncio.sleep(1)
+    print(f"연결 {opened}개 성공, {failed}개 실패 ({time.monotonic() - started:.1f}s)", flush=True)
+    await asyncio.wait(tasks, timeout=hold)
+    print(f"유지 종료 - 성공 {opened}, 실패 {failed}", flush=True)
+
+asyncio.run(main())
+PY
+CLIENT_PID=$!
+trap 'kill $CLIENT_PID 2>/dev/null || true' EXIT
+
+sleep 60
+echo "== 유휴 연결 ${CONNECTIONS}개 유지 중 일반 요청 (GET /api/todos)"
+hey -z 30s -c 50 -H "Authorization: Bearer $TOKEN" "$URL/api/todos" \
+  | grep -E "Requests/sec|Average|99%|95%|50%|\[[0-9]{3}\]"
+
+end=$((SECONDS + HOLD - 90))
+while [ "$SECONDS" -lt "$end" ] && kill -0 "$CLIENT_PID" 2>/dev/null; do
+  report
+  sleep 30
+done
+wait "$CLIENT_PID" || true
+echo "== 연결 종료 후"
+report
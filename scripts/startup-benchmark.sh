@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# JVM 기동 시간 측정 - 내장 DB(embedded 프로필)로 실행하므로 외부 DB 없이 로컬에서 실행 가능
+#
+# 준비:
+#   ./gradlew bootJar cdsArchive
+#
+# 사용: ./scripts/startup-benchmark.sh [반복 횟수]
+#   비교 대상: fat jar / 풀어 둔 jar (CDS 없음) / 풀어 둔 jar + CDS 아카이브
+#   마지막에 -Dstartup.profiling=true 로 한 번 더 실행해서 느린 빈 목록을 출력합니다.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+JAR="${JAR:-build/libs/todo-0.0.1-SNAPSHOT.jar}"
+CDS_DIR="${CDS_DIR:-build/cds}"
+HEALTH_URL="http://localhost:$PORT/actuator/health"
+APP_ARGS=(--spring.profiles.active=embedded --server.port="$PORT")
+
+now_ms() { date +%s%3N; }
+
+# 프로세스를 띄우고 헬스 체크가 UP 이 될 때까지의 시간을 출력
+measure() {
+  local name="$1" dir="$2"; shift 2
+  local start pid
+  start=$(now_ms)
+  (cd "$dir" && exec "$@" "${APP_ARGS[@]}") > "build/startup-$name.log" 2>&1 &
+  pid=$!
+  until curl -sf "$HEALTH_URL" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "$name 실행 실패 - build/startup-$name.log 를 확인하세요." >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  printf "%-10s ready: %6d ms\n" "$name" "$(( $(now_ms) - start ))"
+  kill "$pid"; wait "$pid" 2> /dev/null || true
+}
+
+mkdir -p build
+for i in $(seq "$RUNS"); do
+  echo "== $i / $RUNS"
+  measure fat-jar . java -jar "$JAR"
+  measure exploded "$CDS_DIR" java -Xshare:off -jar application.jar
+  measure cds "$CDS_DIR" java -XX:SharedArchiveFile=application.jsa -jar application.jar
+done
+
+echo "== 느린 빈 목록 (StartupReport)"
+measure profiling "$CDS_DIR" java -Dstartup.profiling=true -XX:SharedArchiveFile=application.jsa -jar application.jar
+sed -n '/기동 완료까지/,/^[^ ]/p' build/startup-profiling.log
@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# JVM 실행과 네이티브 이미지의 기동 시간, 메모리(RSS) 비교
+#
+# 준비:
+#   ./gradlew bootJar          -> build/libs/todo-0.0.1-SNAPSHOT.jar
+#   ./gradlew nativeCompile    -> build/native/nativeCompile/todo  (GraalVM JDK 필요)
+#   DB 는 application.yml 의 설정을 그대로 사용
+#
+# 사용: ./scripts/startup-compare.sh [반복 횟수]
+#   PORT, PROFILES 로 포트와 추가 프로필을 바꿀 수 있습니다.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+PROFILES="${PROFILES:-}"
+JAR="${JAR:-build/libs/todo-0.0.1-SNAPSHOT.jar}"
+NATIVE="${NATIVE:-build/native/nativeCompile/todo}"
+HEALTH_URL="http://localhost:$PORT/actuator/health"
+
+now_ms() { date +%s%3N; }
+
+# 프로세스를 띄우고 헬스 체크가 UP 이 될 때까지의 시간과 그 시점의 RSS 를 출력
+measure() {
+  local name="$1"; shift
+  local start pid elapsed rss
+  start=$(now_ms)
+  "$@" --server.port="$PORT" > "build/startup-$name.log" 2>&1 &
+  pid=$!
+  until curl -sf "$HEALTH_URL" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "$name 실행 실패 - build/startup-$name.log 를 확인하세요." >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"; wait "$pid" 2> /dev/null || true
+  printf "%-8s ready: %6d ms   rss: %7d KB\n" "$name" "$elapsed" "$rss"
+}
+
+mkdir -p build
+for i in $(seq "$RUNS"); do
+  echo "== $i / $RUNS"
+  measure jvm java -jar "$JAR" ${PROFILES:+--spring.profiles.active=$PROFILES}
+  measure native "$NATIVE" --spring.profiles.active="native${PROFILES:+,$PROFILES}"
+done
@@ -0,0 +1,61 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 할 일 목록 JSON 을 gzip 으로 압축하는 CPU 비용 (PrecompressedTodoListFilter 가 목록 버전마다 한 번 지불하는 비용)
+ * 압축 전/후 크기는 setup 에서 한 번 출력합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"5", "50", "500", "5000"})
+    public int size;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<TodoDetailResponseDTO> todos = IntStream.range(0, size)
+                .mapToObj(i -> new TodoDetailResponseDTO(
+                        "3f2c9a1e-8b7d-4c6a-9e01-" + String.format("%012d", i), "할 일 " + i, i % 2 == 0, i % 5))
+                .toList();
+        json = new ObjectMapper().writeValueAsBytes(TodoListResponseDTO.builder().todos(todos).build());
+        System.out.printf("%n[payload] todos=%d, json=%d bytes, gzip=%d bytes%n", size, json.length, gzip().length);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
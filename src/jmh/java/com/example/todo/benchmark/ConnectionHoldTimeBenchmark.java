@@ -0,0 +1,114 @@
+package com.example.todo.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.http.HttpRequest;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 하나가 DB 커넥션을 붙잡고 있는 시간 (hikaricp.connections.usage 의 합 / 요청 수)
+ * - openInView=true: 이전 기본값 -> 요청 안에서 처음 커넥션을 얻은 뒤 응답을 다 쓸 때까지 반납하지 않는다.
+ *   로그인은 회원 조회 뒤의 비밀번호 검증(BCrypt)과 토큰 발급 동안에도 커넥션을 붙잡는다. (서비스 전체가 하나의 트랜잭션이던 때와 같음)
+ * - openInView=false: 현재 설정 -> 트랜잭션(읽기 전용 조회, 짧은 쓰기)이 끝나면 바로 반납
+ * 대상은 할 일 목록 조회(GET /api/todos)와 로그인(POST /api/auth/signin)
+ * 끝날 때 반복(iteration)마다 요청당 커넥션 점유 시간을 출력합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ConnectionHoldTimeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ConnectionHoldTimeBenchmark {
+
+    private static final int TODOS = 20;
+    private static final String PASSWORD = "password1234";
+
+    @Param({"true", "false"})
+    public boolean openInView;
+
+    private EmbeddedTodoServer server;
+    private MeterRegistry meterRegistry;
+    private HttpRequest todoListRequest;
+    private HttpRequest signInRequest;
+
+    private final AtomicLong requests = new AtomicLong();
+    private double usageMillisBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = EmbeddedTodoServer.start("spring.jpa.open-in-view=" + openInView);
+        meterRegistry = server.getBean(MeterRegistry.class);
+
+        EmbeddedTodoServer.Member member = server.createMember(TODOS);
+        // 로그인은 실제 비밀번호 검증을 거치도록 암호화한 비밀번호로 바꿔 둔다.
+        server.getBean(JdbcTemplate.class).update("UPDATE tbl_user SET password = ? WHERE user_id = ?",
+                server.getBean(PasswordEncoder.class).encode(PASSWORD), member.userId());
+
+        todoListRequest = server.request("/api/todos", member.token()).GET().build();
+        signInRequest = server.request("/api/auth/signin", member.token())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + member.email() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        requests.set(0);
+        usageMillisBefore = usageMillis();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printHoldTime() {
+        System.out.printf("%n[connection] 요청당 점유 시간=%.3f ms (요청 %d개)%n",
+                (usageMillis() - usageMillisBefore) / Math.max(1, requests.get()), requests.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public int getTodoList() throws Exception {
+        requests.incrementAndGet();
+        return server.send(todoListRequest);
+    }
+
+    @Benchmark
+    public int signIn() throws Exception {
+        requests.incrementAndGet();
+        return server.send(signInRequest);
+    }
+
+    // 커넥션을 빌려서 반납하기까지 걸린 시간의 누적 합
+    private double usageMillis() {
+        Collection<Timer> timers = meterRegistry.find("hikaricp.connections.usage").timers();
+        if (timers.isEmpty()) {
+            throw new IllegalStateException("hikaricp.connections.usage 메트릭이 없습니다.");
+        }
+        return timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+    }
+}
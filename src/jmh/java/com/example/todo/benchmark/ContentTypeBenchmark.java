@@ -0,0 +1,73 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 할 일 목록 응답을 JSON / CBOR / protobuf 로 인코딩하는 시간 비교
+ * 응답 크기는 setup 에서 한 번 출력합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentTypeBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    @Param({"json", "cbor", "protobuf"})
+    public String format;
+
+    private ObjectWriter writer;
+    private TodoListResponseDTO todoList;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<TodoDetailResponseDTO> todos = IntStream.range(0, size)
+                .mapToObj(i -> new TodoDetailResponseDTO(
+                        "3f2c9a1e-8b7d-4c6a-9e01-" + String.format("%012d", i), "할 일 " + i, i % 2 == 0, i % 5))
+                .toList();
+        todoList = TodoListResponseDTO.builder().todos(todos).build();
+
+        writer = switch (format) {
+            case "json" -> new ObjectMapper().writerFor(TodoListResponseDTO.class);
+            case "cbor" -> new CBORMapper().writerFor(TodoListResponseDTO.class);
+            case "protobuf" -> {
+                ProtobufMapper mapper = new ProtobufMapper();
+                yield mapper.writerFor(TodoListResponseDTO.class)
+                        .with(mapper.generateSchemaFor(TodoListResponseDTO.class));
+            }
+            default -> throw new IllegalArgumentException(format);
+        };
+        System.out.printf("%n[payload] format=%s, todos=%d, bytes=%d%n",
+                format, size, writer.writeValueAsBytes(todoList).length);
+    }
+
+    @Benchmark
+    public byte[] encodeTodoList() throws Exception {
+        return writer.writeValueAsBytes(todoList);
+    }
+}
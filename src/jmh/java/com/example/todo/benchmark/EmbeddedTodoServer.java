@@ -0,0 +1,106 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.userapi.entity.User;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크에서 embedded 프로필(H2)로 서버를 실제로 띄우고 요청을 보내는 도구
+ * FirstRequestsBenchmark 와 같은 방식 -> 측정할 경로(JPA)를 미리 실행하지 않도록 데이터는 JDBC 로 준비한다.
+ *
+ * 추가 설정은 명령행 인자(--키=값)로 전달하므로 application-embedded.yml 의 값보다 우선한다.
+ *
+ * try (EmbeddedTodoServer server = EmbeddedTodoServer.start("추가 설정=값")) {
+ *     EmbeddedTodoServer.Member member = server.createMember(20);
+ *     server.send(server.request("/api/todos", member.token()).GET().build());
+ * }
+ */
+final class EmbeddedTodoServer implements AutoCloseable {
+
+    // 기본값 - start 에 같은 키를 전달하면 그 값을 사용
+    private static final String[] DEFAULT_PROPERTIES = {
+            "server.port=0",
+            "warmup.enabled=false",
+            "jwt.lifetime.access=1h",
+            "logging.level.root=WARN"
+    };
+
+    private final ConfigurableApplicationContext context;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUrl;
+
+    private EmbeddedTodoServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    static EmbeddedTodoServer start(String... properties) {
+        String[] args = Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new);
+        return new EmbeddedTodoServer(new SpringApplicationBuilder(TodoApplication.class)
+                .profiles("embedded")
+                .properties(DEFAULT_PROPERTIES)
+                .run(args));
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // 할 일 todos 개를 가진 회원을 만들고 액세스 토큰을 발급
+    Member createMember(int todos) {
+        User user = User.builder()
+                .id(UUID.randomUUID().toString())
+                .email(UUID.randomUUID() + "@todo.local")
+                .password("password")
+                .userName("benchmark")
+                .build();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO tbl_user (user_id, email, password, user_name, role) VALUES (?, ?, ?, ?, 'COMMON')",
+                user.getId(), user.getEmail(), user.getPassword(), user.getUserName());
+        List<String> todoIds = new ArrayList<>();
+        for (int i = 0; i < todos; i++) {
+            String todoId = UUID.randomUUID().toString();
+            jdbcTemplate.update("INSERT INTO tbl_todo (todo_id, title, done, version, user_id) VALUES (?, ?, ?, 0, ?)",
+                    todoId, "할 일 " + i, i % 2 == 0, user.getId());
+            todoIds.add(todoId);
+        }
+        String token = context.getBean(TokenProvider.class).createAccessKey(user);
+        return new Member(user.getId(), user.getEmail(), token, List.copyOf(todoIds));
+    }
+
+    HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json");
+    }
+
+    // 2xx 가 아니면 측정이 잘못된 것이므로 예외 -> 응답 바이트 수를 리턴
+    int send(HttpRequest request) throws Exception {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    record Member(String userId, String email, String token, List<String> todoIds) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.warmup.WarmupRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새로 뜬 서버가 처음 받는 할 일 목록 요청(GET /api/todos)의 요청별 지연 분포
+ * - warmup=false: 워밍업 없이 바로 트래픽을 받은 경우
+ * - warmup=true: WarmupRunner 가 루프백 HTTP 로 같은 경로를 10초 동안 미리 실행한 경우 (readiness 가 UP 이 된 뒤 측정)
+ * embedded 프로필(H2)로 서버를 실제로 띄우고 HTTP 로 요청 -> 톰캣, 필터, 시큐리티, 컨트롤러, 서비스, JPA, JSON 변환을 모두 거친다.
+ * 워밍업 효과는 JVM 마다 한 번뿐이므로 fork 마다 서버를 새로 띄우고, 앞쪽 요청이 섞이도록 측정 시간을 짧게 잡는다.
+ * 결과의 p0.99, p0.999, max 가 첫 요청들의 지연 (SampleTime 은 요청별 시간을 기록)
+ * 실행: ./gradlew jmh -Pjmh.includes=FirstRequestsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, time = 5)
+@Fork(5)
+public class FirstRequestsBenchmark {
+
+    private static final int TODOS = 20;
+
+    @Param({"false", "true"})
+    public boolean warmup;
+
+    private EmbeddedTodoServer server;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = EmbeddedTodoServer.start(
+                "warmup.enabled=" + warmup,
+                "warmup.duration=10s");
+        // readiness 와 같은 조건 -> 워밍업이 끝난 뒤에 트래픽을 받는다.
+        WarmupRunner warmupRunner = server.getBean(WarmupRunner.class);
+        while (!warmupRunner.isDone()) {
+            Thread.sleep(100);
+        }
+
+        // 측정할 경로(JPA 조회)를 미리 실행하지 않도록 JDBC 로 데이터 준비
+        EmbeddedTodoServer.Member member = server.createMember(TODOS);
+        request = server.request("/api/todos", member.token()).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public int getTodoList() throws Exception {
+        return server.send(request);
+    }
+}
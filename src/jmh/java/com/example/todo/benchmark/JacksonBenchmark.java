@@ -0,0 +1,85 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.config.JacksonConfig;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 스프링 MVC 기본 ObjectMapper 와 JacksonConfig 설정(Blackbird)의 (역)직렬화 성능 비교
+ * 두 매퍼 모두 서버와 같이 Jackson2ObjectMapperBuilder 로 만들고, tuned 는 JacksonConfig 의 모듈을 그대로 등록
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"default", "tuned"})
+    public String mapper;
+
+    private ObjectReader createReader;
+    private ObjectReader modifyReader;
+    private ObjectWriter listWriter;
+
+    private byte[] createJson;
+    private byte[] modifyJson;
+    private TodoListResponseDTO todoList;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("tuned".equals(mapper)) {
+            builder.modulesToInstall(new JacksonConfig().blackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+        createReader = objectMapper.readerFor(TodoCreateRequestDTO.class);
+        modifyReader = objectMapper.readerFor(TodoModifyRequestDTO.class);
+        listWriter = objectMapper.writerFor(TodoListResponseDTO.class);
+
+        createJson = objectMapper.writeValueAsBytes(new TodoCreateRequestDTO("장보기"));
+        modifyJson = objectMapper.writeValueAsBytes(new TodoModifyRequestDTO("todo-id", true, 3L));
+        List<TodoDetailResponseDTO> todos = IntStream.range(0, 20)
+                .mapToObj(i -> new TodoDetailResponseDTO("todo-" + i, "할 일 " + i, i % 2 == 0, i))
+                .toList();
+        todoList = TodoListResponseDTO.builder().todos(todos).build();
+    }
+
+    @Benchmark
+    public Object readCreateRequest() throws Exception {
+        return createReader.readValue(createJson);
+    }
+
+    @Benchmark
+    public Object readModifyRequest() throws Exception {
+        return modifyReader.readValue(modifyJson);
+    }
+
+    @Benchmark
+    public byte[] writeTodoList() throws Exception {
+        return listWriter.writeValueAsBytes(todoList);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.exception.ErrorCode;
+import com.example.todo.filter.JwtExceptionFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 토큰이 몰릴 때(expiry storm) JwtExceptionFilter 가 401 응답을 만드는 비용
+ * - perRequestObjectMapper: 이전 방식 (요청마다 ObjectMapper, HashMap 을 만들어 JSON 문자열로 변환 후 Writer 로 씀)
+ * - precomputed: 지금 방식 (ErrorCode 별로 미리 만든 바이트를 그대로 씀) -> 실제 필터를 그대로 호출
+ * 두 경우 모두 같은 요청/응답 객체와 만료 예외를 사용하고, 로그 출력 비용은 포함하지 않습니다.
+ * 요청 스레드 여러 개가 동시에 거부 응답을 만드는 상황이므로 4 스레드로 측정
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtErrorResponseBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtErrorResponseBenchmark {
+
+    private final JwtExceptionFilter filter = new JwtExceptionFilter();
+    private ExpiredJwtException expired;
+    private FilterChain expiredChain;
+
+    @Setup
+    public void setUp() {
+        expired = new ExpiredJwtException(null, null, "JWT expired");
+        // JwtAuthFilter 가 만료된 토큰을 만나면 던지는 예외
+        expiredChain = (request, response) -> {
+            throw expired;
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse precomputed() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), response, expiredChain);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse perRequestObjectMapper() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        try {
+            expiredChain.doFilter(request, response);
+        } catch (ExpiredJwtException e) {
+            legacyErrorResponse(response, ErrorCode.EXPIRED_TOKEN);
+        }
+        return response;
+    }
+
+    // 미리 만든 바이트를 쓰기 전의 JwtExceptionFilter.setErrorResponse
+    private static void legacyErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType("application/json; charset=UTF-8");
+
+        Map<String, Object> responseMap = new HashMap<>();
+        responseMap.put("message", errorCode.toString());
+        responseMap.put("code", errorCode.getHttpStatus());
+
+        String jsonString = new ObjectMapper().writeValueAsString(responseMap);
+        response.getWriter().write(jsonString);
+    }
+}
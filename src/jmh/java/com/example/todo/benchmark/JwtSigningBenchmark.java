@@ -0,0 +1,127 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.auth.JwtKeyRing;
+import com.example.todo.auth.JwtKeyStore;
+import com.example.todo.auth.StoredSigningKey;
+import com.example.todo.auth.TokenProperties;
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 서명/검증 처리량 비교 (jwt.signing-mode)
+ * - HS512: 기본 모드, 서버끼리 비밀키 공유
+ * - ES256: JwtKeyRing 의 P-256 키로 서명, 공개키(JWKS)로 검증
+ * 로그인/재발급은 sign, 인증이 필요한 모든 요청은 verify 를 한 번씩 실행합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtSigningBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"HS512", "ES256"})
+    public String signingMode;
+
+    private TokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if ("ES256".equals(signingMode)) {
+            beanFactory.addBean("jwtKeyRing", newKeyRing());
+        }
+        tokenProvider = new TokenProvider(new TokenProperties(), beanFactory.getBeanProvider(JwtKeyRing.class));
+        setField(tokenProvider, "SECRET_KEY", randomSecret(64));
+        setField(tokenProvider, "REFRESH_SECRET_KEY", randomSecret(64));
+        tokenProvider.init();
+
+        user = User.builder()
+                .id("benchmark-user")
+                .email("benchmark@example.com")
+                .password("password")
+                .userName("benchmark")
+                .role(Role.COMMON)
+                .build();
+        token = tokenProvider.createAccessKey(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.createAccessKey(user);
+    }
+
+    @Benchmark
+    public TokenUserInfo verify() {
+        return tokenProvider.validateAndGetTokenUserInfo(token);
+    }
+
+    private static JwtKeyRing newKeyRing() throws Exception {
+        JwtKeyRing keyRing = new JwtKeyRing(new InMemoryKeyStore());
+        setField(keyRing, "rotationInterval", Duration.ofHours(24));
+        setField(keyRing, "retainedKeys", 2);
+        setField(keyRing, "keyEncryptionKey", randomSecret(32));
+        keyRing.init();
+        return keyRing;
+    }
+
+    private static String randomSecret(int bytes) {
+        byte[] key = new byte[bytes];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // DB 대신 메모리에 키를 보관
+    static class InMemoryKeyStore implements JwtKeyStore {
+
+        private final ConcurrentSkipListMap<Long, StoredSigningKey> keys = new ConcurrentSkipListMap<>();
+
+        @Override
+        public List<StoredSigningKey> findFromSlot(long minSlot) {
+            return List.copyOf(keys.tailMap(minSlot, true).values());
+        }
+
+        @Override
+        public boolean insertIfAbsent(StoredSigningKey key) {
+            return keys.putIfAbsent(key.slot(), key) == null;
+        }
+
+        @Override
+        public void deleteBeforeSlot(long slot) {
+            keys.headMap(slot, false).clear();
+        }
+    }
+}
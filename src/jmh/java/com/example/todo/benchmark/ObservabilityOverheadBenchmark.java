@@ -0,0 +1,81 @@
+package com.example.todo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭/트레이싱 계측이 할 일 목록 조회(GET /api/todos) 처리량에 주는 비용
+ * - off: 계측 없음 (observation, 트레이싱, p6spy 쿼리 리스너를 모두 끔)
+ * - sampled: prod 와 같이 요청의 10%만 트레이스 샘플링
+ * - full: 모든 요청을 트레이스 샘플링
+ * 요청 하나가 JwtAuthFilter(jwt.verify) -> http.server.requests -> @Observed 서비스 -> p6spy(jdbc.query) 를 모두 거친다.
+ * 오버헤드 = 1 - (sampled 처리량 / off 처리량), 목표는 2% 미만
+ * embedded 프로필에는 OTLP 엔드포인트가 없으므로 스팬 내보내기(비동기 배치 전송) 비용은 포함되지 않는다.
+ * 스레드마다 다른 회원으로 요청 -> findAllShared 의 중복 조회 합치기가 측정에 섞이지 않도록
+ * 실행: ./gradlew jmh -Pjmh.includes=ObservabilityOverheadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(3)
+public class ObservabilityOverheadBenchmark {
+
+    private static final int TODOS = 20;
+
+    @Param({"off", "sampled", "full"})
+    public String mode;
+
+    private EmbeddedTodoServer server;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = switch (mode) {
+            case "off" -> EmbeddedTodoServer.start(
+                    "management.observations.enable.all=false",
+                    "management.tracing.enabled=false",
+                    "decorator.datasource.enabled=false");
+            case "sampled" -> EmbeddedTodoServer.start("management.tracing.sampling.probability=0.1");
+            case "full" -> EmbeddedTodoServer.start("management.tracing.sampling.probability=1.0");
+            default -> throw new IllegalArgumentException("unknown mode " + mode);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        HttpRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp(ObservabilityOverheadBenchmark benchmark) {
+            EmbeddedTodoServer.Member member = benchmark.server.createMember(TODOS);
+            request = benchmark.server.request("/api/todos", member.token()).GET().build();
+        }
+    }
+
+    @Benchmark
+    public int getTodoList(Client client) throws Exception {
+        return server.send(client.request);
+    }
+}
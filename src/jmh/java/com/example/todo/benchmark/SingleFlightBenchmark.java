@@ -0,0 +1,89 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.concurrent.SingleFlight;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * 같은 회원의 목록 조회가 한꺼번에 몰리는 상황 (여러 기기에서 동시에 앱을 열거나 중복 요청)
+ * - direct: 요청마다 DB 조회
+ * - coalesced: TodoService.findAllShared 와 같이 SingleFlight 로 진행 중인 조회를 함께 사용
+ * DB 조회는 dbMicros 만큼 대기하는 것으로 대신하고, 끝날 때 요청 대비 실제 조회 횟수를 출력합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=SingleFlightBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class SingleFlightBenchmark {
+
+    @Param({"direct", "coalesced"})
+    public String mode;
+
+    // 조회 한 번에 걸리는 시간
+    @Param({"2000"})
+    public long dbMicros;
+
+    // 요청이 몰리는 회원 수 (1 이면 모든 스레드가 같은 회원을 조회)
+    @Param({"1", "4"})
+    public int users;
+
+    private final SingleFlight<String, TodoListResponseDTO> singleFlight = new SingleFlight<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong next = new AtomicLong();
+    private TodoListResponseDTO todoList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<TodoDetailResponseDTO> todos = IntStream.range(0, 20)
+                .mapToObj(i -> new TodoDetailResponseDTO("todo-" + i, "할 일 " + i, i % 2 == 0, i))
+                .toList();
+        todoList = TodoListResponseDTO.builder().todos(todos).build();
+    }
+
+    @Benchmark
+    public TodoListResponseDTO loadList() {
+        requests.incrementAndGet();
+        String userId = "user-" + (next.getAndIncrement() % users);
+        if ("coalesced".equals(mode)) {
+            return singleFlight.execute(userId, this::query);
+        }
+        return query();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n[%s, users=%d] 요청 %d건, DB 조회 %d건 (%.1f%%)%n",
+                mode, users, requests.get(), queries.get(), 100.0 * queries.get() / Math.max(1, requests.get()));
+    }
+
+    private TodoListResponseDTO query() {
+        queries.incrementAndGet();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbMicros));
+        return todoList;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.repository.TodoRepository;
+import com.example.todo.todoapi.service.TodoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 할 일 10만 건 응답을 만들 때 힙 할당량 비교
+ * - list: findAll 처럼 목록 전체를 DTO 리스트로 만든 뒤 한 번에 직렬화
+ * - stream: TodoService.writeAll 처럼 한 건씩 읽어서 바로 쓰기
+ * DB 대신 같은 DTO 를 만들어 내는 스트림을 사용하고, 출력은 버린다.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (요청 1건당 바이트) 으로 비교
+ * 실행: ./gradlew jmh -Pjmh.includes=StreamingListBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class StreamingListBenchmark {
+
+    @Param({"100000"})
+    public int todos;
+
+    private ObjectMapper objectMapper;
+    private TodoService todoService;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        // streamAllByUserId 만 사용하므로 나머지 메서드는 구현하지 않은 리포지토리
+        TodoRepository todoRepository = (TodoRepository) Proxy.newProxyInstance(
+                TodoRepository.class.getClassLoader(), new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("streamAllByUserId")) return rows();
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        todoService = new TodoService(todoRepository, null, null, objectMapper, null, null);
+    }
+
+    @Benchmark
+    public void list() throws Exception {
+        List<TodoDetailResponseDTO> dtoList;
+        try (Stream<TodoDetailResponseDTO> rows = rows()) {
+            dtoList = rows.toList();
+        }
+        objectMapper.writeValue(DISCARD, TodoListResponseDTO.builder().todos(dtoList).build());
+    }
+
+    @Benchmark
+    public void stream() throws Exception {
+        todoService.writeAll("user", DISCARD);
+    }
+
+    private Stream<TodoDetailResponseDTO> rows() {
+        return IntStream.range(0, todos)
+                .mapToObj(i -> new TodoDetailResponseDTO("todo-" + i, "할 일 " + i, i % 2 == 0, i));
+    }
+
+    // 응답 스트림 대신 받은 바이트를 버리는 출력 스트림
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+}
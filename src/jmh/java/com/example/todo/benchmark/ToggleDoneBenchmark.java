@@ -0,0 +1,130 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.todoapi.entity.Todo;
+import com.example.todo.todoapi.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 할 일 완료 여부 변경(PUT /api/todos)을 여러 스레드가 동시에 실행할 때의 처리량
+ * - loadAndSave: 이전 TodoService.update 방식 -> findById 로 엔터티를 조회하고 setDone 후 save (더티 체킹, SELECT + UPDATE)
+ * - singleUpdate: 현재 방식 -> TodoRepository.updateDone 의 작성자 조건 UPDATE 한 번
+ * 두 방식 모두 트랜잭션 하나로 실행하고, 변경 뒤의 목록 조회(findAll)는 같으므로 제외한다.
+ * - sharedRow=false: 스레드마다 자기 할 일을 변경 / true: 모든 스레드가 같은 할 일을 변경 (같은 행의 락 경합)
+ * embedded 프로필(H2 메모리 DB)이므로 DB 왕복 비용이 거의 없다. -> 네트워크 너머의 MySQL 에서는 줄어든 쿼리 한 번의 차이가 더 커진다.
+ * 끝날 때 변경 한 번당 실행된 SQL 수와 낙관적 락 충돌 횟수를 출력합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ToggleDoneBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(ToggleDoneBenchmark.THREADS)
+@Fork(1)
+public class ToggleDoneBenchmark {
+
+    static final int THREADS = 16;
+
+    @Param({"false", "true"})
+    public boolean sharedRow;
+
+    private EmbeddedTodoServer server;
+    private EmbeddedTodoServer.Member member;
+    private TodoRepository todoRepository;
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    private final AtomicInteger nextRow = new AtomicInteger();
+    private final AtomicLong toggles = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = EmbeddedTodoServer.start("spring.jpa.properties.hibernate.generate_statistics=true");
+        member = server.createMember(THREADS);
+        todoRepository = server.getBean(TodoRepository.class);
+        transaction = new TransactionTemplate(server.getBean(PlatformTransactionManager.class));
+        statistics = server.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        statistics.clear();
+        toggles.set(0);
+        conflicts.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounters() {
+        long count = Math.max(1, toggles.get());
+        System.out.printf("%n[toggle] SQL/op=%.2f, 낙관적 락 충돌=%d/%d%n",
+                (double) statistics.getPrepareStatementCount() / count, conflicts.get(), toggles.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    // 스레드가 변경할 할 일과 마지막으로 보낸 완료 여부
+    @State(Scope.Thread)
+    public static class Row {
+        String todoId;
+        boolean done;
+
+        @Setup(Level.Trial)
+        public void setUp(ToggleDoneBenchmark benchmark) {
+            int index = benchmark.sharedRow ? 0 : benchmark.nextRow.getAndIncrement() % THREADS;
+            todoId = benchmark.member.todoIds().get(index);
+        }
+    }
+
+    @Benchmark
+    public boolean loadAndSave(Row row) {
+        row.done = !row.done;
+        toggles.incrementAndGet();
+        try {
+            return transaction.execute(status -> {
+                Todo todo = todoRepository.findById(row.todoId).orElseThrow();
+                todo.setDone(row.done);
+                todoRepository.save(todo);
+                return true;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 같은 행을 다른 스레드가 먼저 커밋 -> 실제 API 에서는 409 응답
+            conflicts.incrementAndGet();
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean singleUpdate(Row row) {
+        row.done = !row.done;
+        toggles.incrementAndGet();
+        return transaction.execute(status ->
+                todoRepository.updateDone(row.todoId, member.userId(), row.done, null) == 1);
+    }
+}
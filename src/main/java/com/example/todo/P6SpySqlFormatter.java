@@ -6,10 +6,13 @@ import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
 import jakarta.annotation.PostConstruct;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 import java.util.Locale;
 
+// 네이티브 이미지에서는 p6spy 를 사용하지 않음 (application-native.yml)
 @Configuration
+@Profile("!native")
 public class P6SpySqlFormatter implements MessageFormattingStrategy {
 
     @PostConstruct
@@ -2,12 +2,29 @@ package com.example.todo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @SpringBootApplication
+@EnableScheduling
 public class TodoApplication {
 
+	// 기동 단계 기록 개수 (빈 하나당 여러 단계가 기록됨)
+	private static final int STARTUP_STEP_CAPACITY = 20_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(TodoApplication.class, args);
+		SpringApplication application = new SpringApplication(TodoApplication.class);
+		// 모든 프로필의 기본값 (로컬 application.yml 등 다른 설정이 있으면 그 값이 우선)
+		// - OSIV 를 꺼서 요청이 끝날 때까지 영속성 컨텍스트(와 DB 커넥션)를 붙잡지 않는다.
+		//   -> 커넥션은 트랜잭션 동안만 사용 (카카오 통신, SSE, 스트리밍 응답 중에 커넥션을 들고 있지 않음)
+		application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+		// -Dstartup.profiling=true: 빈 생성 등 기동 단계별 시간을 기록 -> StartupReport 가 느린 빈을 출력
+		if (Boolean.getBoolean("startup.profiling")) {
+			application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		}
+		application.run(args);
 	}
 
 }
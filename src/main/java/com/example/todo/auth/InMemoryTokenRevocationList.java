@@ -0,0 +1,65 @@
+package com.example.todo.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 토큰 무효화 목록
+ * - 조회: jti 를 키로 하는 해시맵 -> O(1)
+ * - 정리: 만료 시간을 1분 단위 버킷으로 묶어 두고, 지난 버킷을 통째로 제거
+ *   (만료된 토큰은 서명 검증 단계에서 이미 거부되므로 목록에 남겨 둘 필요가 없다.)
+ */
+@Slf4j
+public class InMemoryTokenRevocationList implements TokenRevocationList {
+
+    private static final long BUCKET_SECONDS = 60;
+
+    // jti -> 만료 시간(epoch second)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // 버킷 번호 -> 해당 분에 만료되는 jti 목록
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+    // 테스트에서 시간을 옮길 수 있도록 분리
+    private Clock clock = Clock.systemUTC();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || expiresAt.isBefore(clock.instant())) return;
+        long expiresAtSecond = expiresAt.getEpochSecond();
+        revoked.put(tokenId, expiresAtSecond);
+        buckets.computeIfAbsent(expiresAtSecond / BUCKET_SECONDS, key -> ConcurrentHashMap.newKeySet())
+                .add(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    // 만료 시간이 지난 버킷을 정리
+    @Scheduled(fixedDelay = BUCKET_SECONDS * 1000)
+    public void purgeExpired() {
+        long currentBucket = clock.instant().getEpochSecond() / BUCKET_SECONDS;
+        Iterator<Map.Entry<Long, Set<String>>> iterator = buckets.entrySet().iterator();
+        int removed = 0;
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Set<String>> bucket = iterator.next();
+            if (bucket.getKey() < currentBucket) {
+                bucket.getValue().forEach(revoked::remove);
+                removed += bucket.getValue().size();
+                iterator.remove();
+            }
+        }
+        if (removed > 0) log.debug("만료된 무효 토큰 {}개 정리", removed);
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.todo.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// tbl_jwt_signing_key 에 서명 키를 보관
+// readOnly 트랜잭션은 복제 DB 로 가므로 (ReplicationRoutingDataSource) 읽기도 일반 트랜잭션으로 주 DB 에서 한다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.signing-mode", havingValue = "ES256")
+public class JpaJwtKeyStore implements JwtKeyStore {
+
+    private final JwtSigningKeyRepository repository;
+
+    @Override
+    @Transactional
+    public List<StoredSigningKey> findFromSlot(long minSlot) {
+        return repository.findBySlotGreaterThanEqualOrderBySlot(minSlot).stream()
+                .map(k -> new StoredSigningKey(k.getKeyId(), k.getSlot(), k.getPublicKey(), k.getPrivateKey()))
+                .toList();
+    }
+
+    // slot 의 unique 제약으로 동시에 저장하려는 서버 중 하나만 성공한다.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean insertIfAbsent(StoredSigningKey key) {
+        try {
+            repository.saveAndFlush(JwtSigningKey.builder()
+                    .keyId(key.keyId())
+                    .slot(key.slot())
+                    .publicKey(key.publicKey())
+                    .privateKey(key.encryptedPrivateKey())
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteBeforeSlot(long slot) {
+        repository.deleteBySlotLessThan(slot);
+    }
+}
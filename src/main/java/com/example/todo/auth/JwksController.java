@@ -0,0 +1,30 @@
+package com.example.todo.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 액세스 토큰 검증용 공개키 목록 (다른 서비스가 우리 서버를 거치지 않고 토큰을 검증할 때 사용)
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final ObjectProvider<JwtKeyRing> keyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<?> jwks() {
+        // HS512 모드에서는 공개할 키가 없다.
+        JwtKeyRing ring = keyRing.getIfAvailable();
+        List<Map<String, Object>> keys = ring != null ? ring.getJwks() : List.of();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .body(Map.of("keys", keys));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.todo.auth;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// 저장소에 넣는 서명 개인키를 AES-GCM 으로 암호화 (결과: Base64(iv 12바이트 + 암호문))
+class JwtKeyCipher {
+
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+
+    // 16, 24, 32 바이트 키를 Base64 로 전달
+    JwtKeyCipher(String base64Key) {
+        byte[] raw = Base64.getDecoder().decode(base64Key);
+        if (raw.length != 16 && raw.length != 24 && raw.length != 32) {
+            throw new IllegalStateException("jwt.es256.key-encryption-key 는 16, 24, 32 바이트여야 합니다.");
+        }
+        this.key = new SecretKeySpec(raw, "AES");
+    }
+
+    String encrypt(byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+        byte[] encrypted = cipher.doFinal(plain);
+        byte[] result = new byte[IV_LENGTH + encrypted.length];
+        System.arraycopy(iv, 0, result, 0, IV_LENGTH);
+        System.arraycopy(encrypted, 0, result, IV_LENGTH, encrypted.length);
+        return Base64.getEncoder().encodeToString(result);
+    }
+
+    byte[] decrypt(String value) throws GeneralSecurityException {
+        byte[] raw = Base64.getDecoder().decode(value);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, raw, 0, IV_LENGTH));
+        return cipher.doFinal(raw, IV_LENGTH, raw.length - IV_LENGTH);
+    }
+}
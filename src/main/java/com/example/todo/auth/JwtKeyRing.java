@@ -0,0 +1,234 @@
+package com.example.todo.auth;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+ jwt.signing-mode=ES256 일 때 액세스 토큰 서명에 사용하는 키 묶음.
+ - 키는 모든 서버가 함께 보는 저장소(JwtKeyStore, 기본은 tbl_jwt_signing_key)에 보관
+   -> 어느 서버가 발급한 토큰이든 모든 서버에서 검증되고, JWKS 도 서버마다 같다.
+ - 시간을 rotation-interval 단위의 구간(slot)으로 나누고 구간마다 키를 하나씩 사용
+   -> 서버끼리 따로 통신하지 않아도 같은 시각에 같은 키로 함께 교체된다.
+ - 다음 구간의 키는 한 구간 먼저 만들어서 공개해 두므로, 서버 시계가 조금 어긋나도 교체 직후 토큰이 검증된다.
+ - 이전 키 retained-keys 개는 검증용으로 남겨 둔다. (retained-keys * rotation-interval 이 액세스 토큰 수명보다 길어야 함)
+ - 공개키는 /.well-known/jwks.json 으로 공개 -> 다른 서비스가 직접 토큰을 검증할 수 있다.
+
+ jwt:
+   signing-mode: ES256
+   es256:
+     rotation-interval: PT24H   # 교체 주기
+     retained-keys: 2           # 교체 후에도 검증용으로 남겨 둘 이전 키 개수
+     refresh-interval: PT1M     # 저장소를 다시 읽는 주기 (다른 서버가 만든 키를 가져옴)
+     key-encryption-key: ...    # 저장소에 넣는 개인키를 암호화할 AES 키 (16/24/32 바이트, Base64), 모든 서버가 같은 값
+     # 저장소 대신 키를 직접 지정할 수도 있다. (지정한 키는 자동 교체하지 않음)
+     key-id: ...
+     private-key: ...  # PKCS#8, Base64
+     public-key: ...   # X.509, Base64
+*/
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.signing-mode", havingValue = "ES256")
+public class JwtKeyRing {
+
+    @Value("${jwt.es256.rotation-interval:PT24H}")
+    private Duration rotationInterval;
+    @Value("${jwt.es256.retained-keys:2}")
+    private int retainedKeys;
+    @Value("${jwt.es256.key-encryption-key:}")
+    private String keyEncryptionKey;
+    @Value("${jwt.es256.key-id:}")
+    private String configuredKeyId;
+    @Value("${jwt.es256.private-key:}")
+    private String configuredPrivateKey;
+    @Value("${jwt.es256.public-key:}")
+    private String configuredPublicKey;
+
+    private final JwtKeyStore keyStore;
+
+    // 테스트에서 시간을 옮길 수 있도록 분리
+    private Clock clock = Clock.systemUTC();
+    private long intervalMillis;
+    private JwtKeyCipher cipher;
+    private volatile KeySet keySet;
+
+    @PostConstruct
+    public void init() throws GeneralSecurityException {
+        intervalMillis = rotationInterval.toMillis();
+        if (isConfiguredKey()) {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            KeyPair keyPair = new KeyPair(
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(configuredPublicKey))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(configuredPrivateKey)))
+            );
+            String keyId = StringUtils.hasText(configuredKeyId) ? configuredKeyId : "configured";
+            NavigableMap<Long, SigningKey> signingKeys = new TreeMap<>();
+            signingKeys.put(Long.MIN_VALUE, new SigningKey(keyId, keyPair.getPrivate(), SignatureAlgorithm.ES256));
+            keySet = KeySet.of(signingKeys, Map.of(keyId, keyPair.getPublic()));
+            log.info("JWT 서명 키 등록 - kid: {}", keyId);
+            return;
+        }
+        if (!StringUtils.hasText(keyEncryptionKey)) {
+            throw new IllegalStateException("저장소에 서명 키를 보관하려면 jwt.es256.key-encryption-key 가 필요합니다.");
+        }
+        cipher = new JwtKeyCipher(keyEncryptionKey);
+        // 서버가 뜰 때 저장소를 읽지 못하면 서명할 수 없으므로 그대로 실패시킨다.
+        load();
+    }
+
+    // 주기적으로 저장소를 다시 읽어서 다른 서버가 만든 키를 가져오고 다음 구간 키를 준비
+    @Scheduled(fixedDelayString = "${jwt.es256.refresh-interval:PT1M}",
+            initialDelayString = "${jwt.es256.refresh-interval:PT1M}")
+    public void refresh() {
+        if (isConfiguredKey()) return;
+        try {
+            load();
+        } catch (Exception e) {
+            // 저장소가 잠깐 안 되더라도 이미 불러온 키로 계속 서명/검증
+            log.warn("JWT 서명 키를 불러오지 못했습니다. 이전에 불러온 키를 계속 사용합니다.", e);
+        }
+    }
+
+    public SigningKey getActiveKey() {
+        NavigableMap<Long, SigningKey> signingKeys = keySet.signingKeys();
+        Map.Entry<Long, SigningKey> entry = signingKeys.floorEntry(currentSlot());
+        // 시계가 뒤로 간 경우처럼 현재 구간 이전 키가 없다면 가장 오래된 키 사용
+        return entry != null ? entry.getValue() : signingKeys.firstEntry().getValue();
+    }
+
+    public PublicKey findVerificationKey(String keyId) {
+        return keyId == null ? null : keySet.verificationKeys().get(keyId);
+    }
+
+    public List<Map<String, Object>> getJwks() {
+        return keySet.jwks();
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private boolean isConfiguredKey() {
+        return StringUtils.hasText(configuredPrivateKey) && StringUtils.hasText(configuredPublicKey);
+    }
+
+    private long currentSlot() {
+        return clock.millis() / intervalMillis;
+    }
+
+    private synchronized void load() throws GeneralSecurityException {
+        long current = currentSlot();
+        long oldest = current - retainedKeys;
+        List<StoredSigningKey> stored = keyStore.findFromSlot(oldest);
+
+        // 현재 구간과 다음 구간의 키가 없다면 만든다. (여러 서버가 동시에 만들면 저장소가 하나만 받아 줌)
+        Set<Long> slots = stored.stream().map(StoredSigningKey::slot).collect(Collectors.toSet());
+        boolean missing = false;
+        for (long slot = current; slot <= current + 1; slot++) {
+            if (!slots.contains(slot)) {
+                missing = true;
+                keyStore.insertIfAbsent(newKey(slot));
+            }
+        }
+        if (missing) {
+            stored = keyStore.findFromSlot(oldest);
+        }
+        keyStore.deleteBeforeSlot(oldest);
+
+        KeySet previous = keySet;
+        keySet = toKeySet(stored);
+        if (previous == null || !previous.verificationKeys().keySet().equals(keySet.verificationKeys().keySet())) {
+            log.info("JWT 서명 키 갱신 - kid: {}", keySet.verificationKeys().keySet());
+        }
+    }
+
+    private StoredSigningKey newKey(long slot) throws GeneralSecurityException {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        return new StoredSigningKey(
+                UUID.randomUUID().toString(),
+                slot,
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                cipher.encrypt(keyPair.getPrivate().getEncoded())
+        );
+    }
+
+    private KeySet toKeySet(List<StoredSigningKey> stored) throws GeneralSecurityException {
+        if (stored.isEmpty()) {
+            throw new IllegalStateException("저장소에 JWT 서명 키가 없습니다.");
+        }
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        NavigableMap<Long, SigningKey> signingKeys = new TreeMap<>();
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        for (StoredSigningKey key : stored) {
+            verificationKeys.put(key.keyId(),
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.publicKey()))));
+            signingKeys.put(key.slot(), new SigningKey(key.keyId(),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(cipher.decrypt(key.encryptedPrivateKey()))),
+                    SignatureAlgorithm.ES256));
+        }
+        return KeySet.of(signingKeys, verificationKeys);
+    }
+
+    // 한 번에 바꿔 끼우는 키 묶음 (요청 스레드는 잠금 없이 읽음)
+    private record KeySet(NavigableMap<Long, SigningKey> signingKeys,
+                          Map<String, PublicKey> verificationKeys,
+                          List<Map<String, Object>> jwks) {
+
+        static KeySet of(NavigableMap<Long, SigningKey> signingKeys, Map<String, PublicKey> verificationKeys) {
+            // JWKS 응답은 키가 바뀔 때만 새로 만들어 둔다.
+            List<Map<String, Object>> jwks = verificationKeys.entrySet().stream()
+                    .map(e -> toJwk(e.getKey(), (ECPublicKey) e.getValue()))
+                    .toList();
+            return new KeySet(signingKeys, Map.copyOf(verificationKeys), jwks);
+        }
+    }
+
+    private static Map<String, Object> toJwk(String keyId, ECPublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", keyId);
+        jwk.put("x", toBase64Url(publicKey.getW().getAffineX()));
+        jwk.put("y", toBase64Url(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    // P-256 좌표는 부호 없는 32바이트로 맞춰서 인코딩해야 한다.
+    private static String toBase64Url(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, fixed.length);
+        System.arraycopy(bytes, bytes.length - length, fixed, fixed.length - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
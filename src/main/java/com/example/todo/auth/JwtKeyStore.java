@@ -0,0 +1,20 @@
+package com.example.todo.auth;
+
+import java.util.List;
+
+/*
+ ES256 서명 키를 모든 서버가 함께 보는 저장소 (JwtKeyRing 이 주기적으로 읽고 씀)
+ - 키는 교체 구간(slot) 마다 하나만 있어야 하므로 같은 slot 으로 두 번 저장하면 뒤의 것은 무시된다.
+ - 다른 서버가 방금 저장한 키를 바로 봐야 하므로 읽기도 주 DB 에서 해야 한다.
+*/
+public interface JwtKeyStore {
+
+    // minSlot 이후 구간의 키를 slot 순서로 조회
+    List<StoredSigningKey> findFromSlot(long minSlot);
+
+    // 해당 slot 에 키가 없을 때만 저장 (다른 서버가 먼저 저장했다면 false)
+    boolean insertIfAbsent(StoredSigningKey key);
+
+    // 검증 기간이 지난 키 삭제
+    void deleteBeforeSlot(long slot);
+}
@@ -0,0 +1,37 @@
+package com.example.todo.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 모든 서버가 함께 쓰는 ES256 서명 키 (JpaJwtKeyStore 에서만 사용)
+@Getter @ToString(exclude = "privateKey")
+@EqualsAndHashCode(of = "keyId")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_jwt_signing_key")
+public class JwtSigningKey {
+
+    @Id
+    @Column(name = "key_id")
+    private String keyId; // 토큰 헤더의 kid
+
+    @Column(nullable = false, unique = true)
+    private long slot; // 교체 구간 번호 -> 구간마다 키는 하나
+
+    @Column(nullable = false, length = 200)
+    private String publicKey;
+
+    @Column(nullable = false, length = 400)
+    private String privateKey; // jwt.es256.key-encryption-key 로 암호화한 값
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.example.todo.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    List<JwtSigningKey> findBySlotGreaterThanEqualOrderBySlot(long slot);
+
+    @Modifying
+    @Query("DELETE FROM JwtSigningKey k WHERE k.slot < :slot")
+    int deleteBySlotLessThan(@Param("slot") long slot);
+}
@@ -0,0 +1,8 @@
+package com.example.todo.auth;
+
+// 토큰을 발급받은 로그인 방식 (자체 회원가입 / 카카오 로그인)
+public enum LoginProvider {
+
+    LOCAL, KAKAO
+
+}
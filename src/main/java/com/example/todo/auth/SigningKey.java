@@ -0,0 +1,9 @@
+package com.example.todo.auth;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+// 토큰 서명에 사용할 키와 알고리즘 (keyId 는 비대칭 키를 사용할 때 헤더의 kid 로 들어감)
+public record SigningKey(String keyId, Key key, SignatureAlgorithm algorithm) {
+}
@@ -0,0 +1,5 @@
+package com.example.todo.auth;
+
+// 저장소에 보관하는 서명 키 (공개키는 X.509, 개인키는 PKCS#8 을 암호화한 값, 모두 Base64)
+public record StoredSigningKey(String keyId, long slot, String publicKey, String encryptedPrivateKey) {
+}
@@ -0,0 +1,47 @@
+package com.example.todo.auth;
+
+import com.example.todo.userapi.entity.Role;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ yml 의 jwt.lifetime 설정을 읽어오는 객체 (설정이 없으면 기존 값인 15초 / 1분을 사용)
+
+ jwt:
+   lifetime:
+     access: 30m
+     refresh: 14d
+     access-by-role:
+       ADMIN: 10m
+     refresh-hint-before: 5m
+*/
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "jwt.lifetime")
+public class TokenProperties {
+
+    // 기본 수명
+    private Duration access = Duration.ofSeconds(15);
+    private Duration refresh = Duration.ofMinutes(1);
+
+    // 등급별로 다르게 주고 싶은 수명 (없으면 기본 수명)
+    private Map<Role, Duration> accessByRole = new HashMap<>();
+    private Map<Role, Duration> refreshByRole = new HashMap<>();
+
+    // 액세스 토큰의 남은 시간이 이 값보다 적으면 응답 헤더로 재발급을 권유
+    private Duration refreshHintBefore = Duration.ofSeconds(5);
+
+    public Duration getAccessLifetime(Role role) {
+        return accessByRole.getOrDefault(role, access);
+    }
+
+    public Duration getRefreshLifetime(Role role) {
+        return refreshByRole.getOrDefault(role, refresh);
+    }
+}
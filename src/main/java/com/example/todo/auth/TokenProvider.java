@@ -2,19 +2,32 @@ package com.example.todo.auth;
 import com.example.todo.userapi.entity.Role;
 import com.example.todo.userapi.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 @Component
 @Slf4j
+@RequiredArgsConstructor
 // 역할: 토큰을 발급하고, 서명 위조를 검사하는 객체
 public class TokenProvider {
     // 서명에 사용할 값 (512비트 이상의 랜덤 문자열을 권장)
@@ -23,12 +36,55 @@ public class TokenProvider {
     private String SECRET_KEY;
     @Value("${jwt.refresh-secret}")
     private String REFRESH_SECRET_KEY;
+
+    // 토큰 수명 설정 (등급별)
+    private final TokenProperties tokenProperties;
+    // jwt.signing-mode=ES256 일 때만 등록되는 비대칭 키 묶음
+    private final ObjectProvider<JwtKeyRing> keyRingProvider;
+
+    private JwtKeyRing keyRing;
+    private SigningKey accessSigningKey;
+    private SigningKey refreshSigningKey;
+    // 파서는 스레드에 안전하므로 요청마다 새로 만들지 않고 한 번만 생성
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+
+    // 서명 키를 요청마다 만들지 않도록 서버가 뜰 때 한 번만 생성
+    @PostConstruct
+    public void init() {
+        SecretKey accessKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        SecretKey refreshKey = Keys.hmacShaKeyFor(REFRESH_SECRET_KEY.getBytes());
+        accessSigningKey = new SigningKey(null, accessKey, SignatureAlgorithm.HS512);
+        refreshSigningKey = new SigningKey(null, refreshKey, SignatureAlgorithm.HS512);
+        refreshTokenParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
+
+        keyRing = keyRingProvider.getIfAvailable();
+        if (keyRing == null) {
+            accessTokenParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+            return;
+        }
+        // ES256 모드: 토큰 헤더의 kid 로 검증에 사용할 공개키를 찾는다.
+        accessTokenParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.findVerificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 서명 키 입니다. - kid: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        log.info("액세스 토큰을 ES256 으로 서명합니다.");
+    }
+
     /**
      * JSON Web Token을 생성하는 메서드
      * @param userEntity - 토큰의 내용(클레임)에 포함될 유저 정보
      * @return - 생성된 JSON을 암호화 한 토큰값
      */
-    public String createToken(User userEntity, String secretKey, long duration, ChronoUnit unit) {
+    public String createToken(User userEntity, SigningKey signingKey, long duration, ChronoUnit unit) {
         // 토큰 만료 시간 생성
         Date expiry = Date.from(
                 Instant.now().plus(duration, unit)
@@ -49,11 +105,14 @@ public class TokenProvider {
         Map<String, String> claims = new HashMap<>();
         claims.put("email", userEntity.getEmail());
         claims.put("role", userEntity.getRole().toString());
-        return Jwts.builder()
+        // 인증된 요청에서 DB를 조회하지 않아도 되도록 프로필 경로와 로그인 방식도 함께 담는다.
+        claims.put("profile", userEntity.getProfileImg() != null ? userEntity.getProfileImg() : "");
+        claims.put("provider", getLoginProvider(userEntity).name());
+        JwtBuilder builder = Jwts.builder()
                 //token Header에 들어갈 서명
                 .signWith(
-                        Keys.hmacShaKeyFor(secretKey.getBytes()),
-                        SignatureAlgorithm.HS512
+                        signingKey.key(),
+                        signingKey.algorithm()
                 )
                 // token payload에 들어갈 클레임 설정
                 .setClaims(claims) // 추가 클레임을 먼저 설정해야 함.
@@ -61,25 +120,32 @@ public class TokenProvider {
                 .setIssuedAt(new Date()) // iat: 발급 시간
                 .setExpiration(expiry) // exp: 만료 시간
                 .setSubject(userEntity.getId()) // sub: 토큰을 식별할 수 있는 주요 데이터
-                .compact();
+                .setId(UUID.randomUUID().toString()); // jti: 토큰 고유 번호 (로그아웃 시 무효화에 사용)
+        // 비대칭 키로 서명할 때는 검증할 키를 찾을 수 있도록 헤더에 kid 를 넣는다.
+        if (signingKey.keyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.keyId());
+        }
+        return builder.compact();
     }
 
     public String createAccessKey(User userEntity) {
-        return createToken(userEntity, SECRET_KEY, 15, ChronoUnit.SECONDS);
+        Duration lifetime = tokenProperties.getAccessLifetime(userEntity.getRole());
+        SigningKey signingKey = keyRing != null ? keyRing.getActiveKey() : accessSigningKey;
+        return createToken(userEntity, signingKey, lifetime.toMillis(), ChronoUnit.MILLIS);
     }
 
     public String createRefreshKey(User userEntity) {
-        return createToken(userEntity, REFRESH_SECRET_KEY, 1, ChronoUnit.MINUTES);
+        Duration lifetime = tokenProperties.getRefreshLifetime(userEntity.getRole());
+        // 리프레시 토큰은 우리 서버만 검증하므로 계속 HS512 로 서명
+        return createToken(userEntity, refreshSigningKey, lifetime.toMillis(), ChronoUnit.MILLIS);
     }
 
     // 토큰에서 클레임을 추출하는 로직을 분리했습니다.
-    private Claims getClaims(String token, String secretKey) {
-        Claims claims = Jwts.parserBuilder()
-                //토큰 발급자의 발급 당시의 서명을 넣어줌.
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
+    private Claims getClaims(String token, JwtParser parser) {
+        // 파서에는 토큰 발급자의 발급 당시의 서명 키가 들어있음.
+        Claims claims = parser
                 // 서명 위조 검사: 위조된 경우에는 예외가 발생합니다.
                 // 위조가 되지 않은 경우 payload를 리턴
-                .build()
                 .parseClaimsJws(token)
                 .getBody();
         return claims;
@@ -87,7 +153,7 @@ public class TokenProvider {
 
     // 리프레시 토큰 만료시간만 추출하기
     public Date getExpiryDate(String token) {
-        Claims claims = getClaims(token, REFRESH_SECRET_KEY);
+        Claims claims = getClaims(token, refreshTokenParser);
         return claims.getExpiration();
     }
 
@@ -99,18 +165,37 @@ public class TokenProvider {
      * @return - 토큰 안에 있는 인증된 유저 정보를 반환
      */
     public TokenUserInfo validateAndGetTokenUserInfo(String token) {
-        Claims claims = getClaims(token, SECRET_KEY);
-        log.info("claims: {}", claims);
+        Claims claims = getClaims(token, accessTokenParser);
         return TokenUserInfo.builder()
                 .userId(claims.getSubject())
+                .tokenId(claims.getId())
                 .email(claims.get("email", String.class))
                 .role(Role.valueOf(claims.get("role", String.class)))
+                .expiresAt(claims.getExpiration().toInstant())
+                .profileImg(claims.get("profile", String.class))
+                .provider(parseLoginProvider(claims.get("provider", String.class)))
                 .build();
     }
+
+    // 카카오 로그인 회원은 카카오 access token 을 가지고 있다.
+    private LoginProvider getLoginProvider(User userEntity) {
+        return userEntity.getAccessToken() != null ? LoginProvider.KAKAO : LoginProvider.LOCAL;
+    }
+
+    private LoginProvider parseLoginProvider(String provider) {
+        return provider != null ? LoginProvider.valueOf(provider) : null;
+    }
+
+    // 액세스 토큰의 남은 수명이 설정한 값보다 적다면 재발급 권유 대상
+    public boolean isRefreshRecommended(TokenUserInfo userInfo) {
+        if (userInfo.getExpiresAt() == null) return false;
+        Duration remaining = Duration.between(Instant.now(), userInfo.getExpiresAt());
+        return remaining.compareTo(tokenProperties.getRefreshHintBefore()) < 0;
+    }
     // refresh token의 유효성을 검사합니다.
     public boolean validateRefreshToken(String token) {
         try {
-            getClaims(token, REFRESH_SECRET_KEY);
+            getClaims(token, refreshTokenParser);
             return true;
         } catch (Exception e) {
             log.warn("유효하지 않은 리프레시 토큰!");
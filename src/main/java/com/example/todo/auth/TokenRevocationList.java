@@ -0,0 +1,20 @@
+package com.example.todo.auth;
+
+import java.time.Instant;
+
+/**
+ * 로그아웃 등으로 만료 전에 무효화된 토큰(jti) 목록.
+ * 기본 구현은 노드 메모리에 저장하지만, 여러 서버가 목록을 공유해야 한다면
+ * Redis 등의 공유 저장소 구현체를 빈으로 등록하면 됩니다.
+ * 요청마다 호출되므로 isRevoked 는 상수 시간에 동작해야 합니다.
+ */
+public interface TokenRevocationList {
+
+    /**
+     * @param tokenId - 토큰의 jti
+     * @param expiresAt - 토큰 만료 시간 (이 시간이 지나면 목록에서 제거해도 됨)
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    boolean isRevoked(String tokenId);
+}
@@ -3,6 +3,8 @@ package com.example.todo.auth;
 import com.example.todo.userapi.entity.Role;
 import lombok.*;
 
+import java.time.Instant;
+
 
 @Getter
 @ToString
@@ -13,8 +15,12 @@ import lombok.*;
 public class TokenUserInfo {
 
     private String userId;
+    private String tokenId; // jti - 토큰 무효화(로그아웃)에 사용
     private String email;
     private Role role;
+    private Instant expiresAt; // 액세스 토큰 만료 시간
+    private String profileImg; // 프로필 이미지 경로 (없으면 빈 문자열, 이전에 발급된 토큰이면 null)
+    private LoginProvider provider; // 로그인 방식
 }
 
 
@@ -0,0 +1,80 @@
+package com.example.todo.concurrent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 작업을 한 번만 실행하고 결과를 함께 사용 (single-flight)
+ * - 먼저 도착한 요청이 직접 실행하고, 실행 중에 도착한 요청들은 그 결과를 기다린다.
+ * - 결과는 보관하지 않는다. -> 실행이 끝난 뒤에 도착한 요청은 새로 실행 (캐시가 아님)
+ * - 실패하면 기다리던 요청 모두에게 같은 예외를 던지고, 다음 요청은 다시 실행한다.
+ * - 기다리던 요청이 인터럽트되어도 실행 중인 작업은 취소하지 않는다. (다른 요청이 기다리고 있으므로)
+ *   실행하던 요청이 인터럽트로 중단되었다면 기다리던 요청들은 실패하지 않고 다시 실행한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> action) {
+        while (true) {
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+            if (running == null) {
+                return run(key, call, action);
+            }
+            try {
+                return running.get();
+            } catch (CancellationException e) {
+                // 실행하던 요청이 인터럽트로 중단됨 -> 이 요청과는 관계가 없으므로 다시 시도
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("실행 결과를 기다리는 중 인터럽트 되었습니다. - key: " + key);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 작업을 더 이상 공유하지 않도록 분리 (데이터가 변경된 경우)
+     * 실행 중인 작업은 그대로 끝나지만, 이후에 도착한 요청은 새로 실행한다.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    // 현재 실행 중인 키의 개수
+    public int size() {
+        return inFlight.size();
+    }
+
+    private V run(K key, CompletableFuture<V> call, Supplier<V> action) {
+        V result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            if (Thread.currentThread().isInterrupted()) {
+                call.cancel(false);
+            } else {
+                call.completeExceptionally(e);
+            }
+            throw e;
+        }
+        // 완료된 결과를 늦게 도착한 요청에게 주지 않도록 먼저 제거하고 완료
+        inFlight.remove(key, call);
+        call.complete(result);
+        return result;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        if (cause instanceof Error error) throw error;
+        return new CompletionException(cause);
+    }
+}
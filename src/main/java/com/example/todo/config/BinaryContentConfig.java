@@ -0,0 +1,45 @@
+package com.example.todo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 모바일 앱을 위한 바이너리 응답 (Accept 헤더로 선택)
+ * - application/cbor: JSON 과 같은 구조를 바이너리로 인코딩
+ * - application/x-protobuf: 할 일 API 의 DTO 만 지원
+ * 기존 JSON 컨버터 뒤에 추가하므로 Accept 가 없거나 * / * 인 요청은 지금처럼 JSON 으로 응답합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryContentConfig implements WebMvcConfigurer {
+
+    private static final String TODO_DTO_PACKAGE = "com.example.todo.todoapi.dto";
+
+    // 스프링 부트가 설정한 ObjectMapper 빌더 (JacksonConfig 의 모듈, 기능 설정이 그대로 적용됨)
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    // protobuf 컨버터와 스키마 API(TodoProtoController)가 함께 사용
+    @Bean
+    public ProtobufSchemas protobufSchemas() {
+        // ProtobufMapper 는 빌더의 build() 로 만들 수 없으므로 직접 만든 뒤 같은 설정을 적용
+        ProtobufMapper mapper = new ProtobufMapper();
+        objectMapperBuilder.configure(mapper);
+        return new ProtobufSchemas(mapper);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()));
+        converters.add(new JacksonProtobufHttpMessageConverter(protobufSchemas(), TODO_DTO_PACKAGE));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.todo.config;
 
+import com.example.todo.filter.JwtAuthFilter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -13,6 +14,7 @@ public class CustomServletConfig implements WebMvcConfigurer {
                 .allowedOrigins("*") // 자원 공유를 허락할 origin을 설정 (origin: 프로토콜, ip주소, 포트번호)
                 .allowedMethods("HEAD", "GET", "POST", "PUT", "PATCH","DELETE", "OPTIONS") // 요청 방식
                 .maxAge(300) // 원하는 시간 만큼 기존에 허락했던 요청 정보를 기억할 시간
-                .allowedHeaders("Authorization", "Cache-Control", "Content-Type"); // 요청을 허락할 헤더 정보 종류
+                .allowedHeaders("Authorization", "Cache-Control", "Content-Type", "Idempotency-Key") // 요청을 허락할 헤더 정보 종류
+                .exposedHeaders(JwtAuthFilter.TOKEN_REFRESH_HINT_HEADER); // 클라이언트 스크립트에서 읽을 수 있는 응답 헤더
     }
 }
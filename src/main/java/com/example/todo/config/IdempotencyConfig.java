@@ -0,0 +1,24 @@
+package com.example.todo.config;
+
+import com.example.todo.idempotency.IdempotencyStore;
+import com.example.todo.idempotency.InMemoryIdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    // 공유 저장소 구현체가 따로 등록되어 있지 않으면 메모리 저장소를 사용.
+    @Bean
+    @ConditionalOnMissingBean(IdempotencyStore.class)
+    public IdempotencyStore idempotencyStore(
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl:24h}") Duration ttl
+    ) {
+        return new InMemoryIdempotencyStore(maxEntries, ttl);
+    }
+}
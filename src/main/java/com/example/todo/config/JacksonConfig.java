@@ -0,0 +1,61 @@
+package com.example.todo.config;
+
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.userapi.dto.request.LoginRequestDTO;
+import com.example.todo.userapi.dto.response.LoginResponseDTO;
+import com.example.todo.userapi.dto.response.UserSignUpResponseDTO;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+/**
+ * 요청/응답 DTO 변환에 사용하는 ObjectMapper 설정
+ * - Blackbird: getter/setter 를 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 호출
+ * - 자주 쓰는 DTO 의 (역)직렬화기는 서버가 뜰 때 미리 만들어 둔다.
+ * 나머지 기능은 스프링 부트 기본값 그대로 사용 (FAIL_ON_UNKNOWN_PROPERTIES 는 부트가 이미 끄고 있음)
+ */
+@Configuration
+@Slf4j
+public class JacksonConfig {
+
+    // 요청마다 주고받는 DTO -> 첫 요청이 (역)직렬화기 생성 비용을 떠안지 않도록 미리 준비
+    static final List<Class<?>> RESPONSE_TYPES = List.of(
+            TodoListResponseDTO.class,
+            TodoDetailResponseDTO.class,
+            LoginResponseDTO.class,
+            UserSignUpResponseDTO.class
+    );
+    static final List<Class<?>> REQUEST_TYPES = List.of(
+            TodoCreateRequestDTO.class,
+            TodoModifyRequestDTO.class,
+            LoginRequestDTO.class
+    );
+
+    // Module 타입의 빈은 스프링 부트가 ObjectMapper 에 자동으로 등록
+    // 네이티브 이미지에서는 실행 중에 클래스를 만들 수 없으므로 기본(리플렉션) 방식을 사용
+    @Bean
+    @Profile("!native")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public SmartInitializingSingleton jacksonSerializerWarmup(ObjectMapper objectMapper) {
+        return () -> {
+            // canSerialize / canDeserialize 는 (역)직렬화기를 만들어서 ObjectMapper 의 캐시에 넣어 둔다.
+            RESPONSE_TYPES.forEach(objectMapper::canSerialize);
+            REQUEST_TYPES.forEach(type -> objectMapper.canDeserialize(objectMapper.constructType(type)));
+            log.debug("Jackson (역)직렬화기 준비 완료 - 응답 {}개, 요청 {}개", RESPONSE_TYPES.size(), REQUEST_TYPES.size());
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.todo.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * DTO 를 protobuf 로 주고받는 컨버터 (Accept / Content-Type: application/x-protobuf)
+ * .proto 파일을 따로 관리하지 않고 DTO 클래스에서 만든 스키마(ProtobufSchemas)를 사용합니다.
+ * 클라이언트는 GET /api/todos/proto/{DTO 이름}.proto 로 같은 스키마를 받아갈 수 있습니다.
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_X_PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType("application/protobuf");
+
+    private final ProtobufSchemas schemas;
+    private final String supportedPackage;
+
+    /**
+     * @param schemas - 매퍼와 타입별 스키마 (모르는 필드 무시 등 JSON 과 같은 설정이 적용되어 있음)
+     * @param supportedPackage - protobuf 변환을 허용할 DTO 패키지 (그 외의 타입은 JSON 등 다른 컨버터가 처리)
+     */
+    public JacksonProtobufHttpMessageConverter(ProtobufSchemas schemas, String supportedPackage) {
+        super(APPLICATION_X_PROTOBUF, APPLICATION_PROTOBUF);
+        this.schemas = schemas;
+        this.supportedPackage = supportedPackage;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz.getPackageName().startsWith(supportedPackage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return schemas.mapper().readerFor(clazz)
+                    .with(schemas.schemaFor(clazz))
+                    .readValue(inputMessage.getBody());
+        } catch (JsonMappingException e) {
+            throw new HttpMessageNotReadableException("protobuf 요청을 읽을 수 없습니다: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        Class<?> clazz = object.getClass();
+        try {
+            schemas.mapper().writerFor(clazz)
+                    .with(schemas.schemaFor(clazz))
+                    .writeValue(outputMessage.getBody(), object);
+        } catch (JsonMappingException e) {
+            throw new HttpMessageNotWritableException("protobuf 응답을 만들 수 없습니다: " + e.getOriginalMessage(), e);
+        }
+    }
+}
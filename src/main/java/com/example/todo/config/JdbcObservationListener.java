@@ -0,0 +1,59 @@
+package com.example.todo.config;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * p6spy 가 감싼 DataSource 에서 쿼리가 실행될 때마다 호출되는 리스너
+ * - 쿼리마다 jdbc.query 스팬(타이머)을 생성 -> 서비스 스팬의 하위 스팬으로 연결됨
+ * - 현재 요청에서 DB에 머문 시간과 쿼리 개수를 누적 -> DbTimeMetricsFilter 가 요청이 끝날 때 기록
+ */
+@Component
+@Profile("!native")
+@RequiredArgsConstructor
+public class JdbcObservationListener extends SimpleJdbcEventListener {
+
+    // [0]: DB 누적 시간(ns), [1]: 쿼리 개수
+    private static final ThreadLocal<long[]> REQUEST_DB_STATS = new ThreadLocal<>();
+    private static final ThreadLocal<Observation> CURRENT_QUERY = new ThreadLocal<>();
+
+    private final ObservationRegistry observationRegistry;
+
+    public static void beginRequest() {
+        REQUEST_DB_STATS.set(new long[2]);
+    }
+
+    public static long[] endRequest() {
+        long[] stats = REQUEST_DB_STATS.get();
+        REQUEST_DB_STATS.remove();
+        return stats == null ? new long[2] : stats;
+    }
+
+    @Override
+    public void onBeforeAnyExecute(StatementInformation statementInformation) {
+        CURRENT_QUERY.set(Observation.start("jdbc.query", observationRegistry));
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        long[] stats = REQUEST_DB_STATS.get();
+        if (stats != null) {
+            stats[0] += timeElapsedNanos;
+            stats[1]++;
+        }
+
+        Observation observation = CURRENT_QUERY.get();
+        if (observation != null) {
+            CURRENT_QUERY.remove();
+            if (e != null) observation.error(e);
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/*
+ 카카오 서버 통신 설정 (yml 의 kakao.http)
+
+ kakao:
+   http:
+     response-timeout: 3s
+     max-concurrent-calls: 50
+     circuit-breaker:
+       failure-rate-threshold: 50
+       wait-duration-in-open-state: 30s
+     retry:
+       max-attempts: 3
+*/
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "kakao.http")
+public class KakaoClientProperties {
+
+    private String authUri = "https://kauth.kakao.com";
+    private String apiUri = "https://kapi.kakao.com";
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration responseTimeout = Duration.ofSeconds(3);
+
+    // 카카오로 동시에 나갈 수 있는 최대 요청 수 (초과하면 기다리지 않고 바로 실패)
+    private int maxConcurrentCalls = 50;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Retry retry = new Retry();
+
+    @Getter @Setter
+    public static class CircuitBreaker {
+        // 최근 slidingWindowSize 개의 요청 중 실패(또는 느린 요청) 비율이 임계치를 넘으면 차단
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private float failureRateThreshold = 50;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+        private float slowCallRateThreshold = 80;
+        // 차단 후 이 시간이 지나면 일부 요청만 흘려보내서 회복 여부를 확인
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedNumberOfCallsInHalfOpenState = 5;
+    }
+
+    @Getter @Setter
+    public static class Retry {
+        private int maxAttempts = 3;
+        // 첫 재시도 대기 시간, 이후 2배씩 늘리고 +-50% 범위에서 무작위로 흩뜨림
+        private Duration initialInterval = Duration.ofMillis(200);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.todo.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 카카오 서버 통신에 사용할 서킷 브레이커, 벌크헤드, 재시도 설정
+ * - 서킷 브레이커: 카카오가 계속 실패하거나 느리면 일정 시간 동안 호출하지 않고 바로 실패
+ * - 벌크헤드: 동시에 나가는 요청 수를 제한 (초과 시 대기하지 않고 바로 실패)
+ * - 재시도: 네트워크 오류, 타임아웃, 5xx 응답만 지수 백오프 + 지터로 재시도
+ */
+@Configuration
+@Slf4j
+@RequiredArgsConstructor
+public class KakaoResilienceConfig {
+
+    public static final String KAKAO = "kakao";
+
+    private final KakaoClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public CircuitBreaker kakaoCircuitBreaker() {
+        KakaoClientProperties.CircuitBreaker settings = properties.getCircuitBreaker();
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedNumberOfCallsInHalfOpenState())
+                // 잘못된 인가 코드 같은 4xx 는 카카오 장애가 아니므로 실패로 세지 않는다.
+                .recordException(KakaoResilienceConfig::isKakaoFailure)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(KAKAO);
+        // 상태 전환 (CLOSED -> OPEN -> HALF_OPEN ...) 을 로그와 메트릭으로 남긴다.
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("카카오 서킷 브레이커 상태 변경: {}", event.getStateTransition());
+            meterRegistry.counter("kakao.circuitbreaker.transitions",
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()
+            ).increment();
+        });
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead kakaoBulkhead() {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(KAKAO);
+    }
+
+    @Bean
+    public Retry kakaoRetry() {
+        KakaoClientProperties.Retry settings = properties.getRetry();
+        RetryConfig config = RetryConfig.custom()
+                .maxAttempts(settings.getMaxAttempts())
+                // 여러 서버가 동시에 같은 간격으로 재시도하지 않도록 대기 시간을 무작위로 흩뜨림
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        settings.getInitialInterval(), 2.0, 0.5))
+                .retryOnException(KakaoResilienceConfig::isKakaoFailure)
+                .build();
+        RetryRegistry registry = RetryRegistry.of(config);
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry.retry(KAKAO);
+    }
+
+    // 네트워크 오류, 타임아웃, 5xx 응답만 카카오 장애로 판단
+    static boolean isKakaoFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
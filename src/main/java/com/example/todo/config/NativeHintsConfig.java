@@ -0,0 +1,88 @@
+package com.example.todo.config;
+
+import com.example.todo.auth.JwtSigningKey;
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.entity.Todo;
+import com.example.todo.todoapi.event.TodoChangedEvent;
+import com.example.todo.userapi.dto.request.LoginRequestDTO;
+import com.example.todo.userapi.dto.request.UserSignUpRequestDTO;
+import com.example.todo.userapi.dto.response.KakaoUserDTO;
+import com.example.todo.userapi.dto.response.LoginResponseDTO;
+import com.example.todo.userapi.dto.response.UserSignUpResponseDTO;
+import com.example.todo.userapi.entity.User;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * 네이티브 이미지(./gradlew nativeCompile)에서 리플렉션으로 접근하는 클래스 목록
+ * - DTO: Jackson (json, cbor, protobuf) 이 getter/setter/생성자를 리플렉션으로 호출
+ * - 엔터티: 스프링 AOT 가 등록하는 힌트에 더해 QueryDSL 프로젝션, 생성자 프로젝션에서 사용하는 멤버
+ * - JJWT: 구현 클래스를 이름으로 찾아서 생성 (jjwt-api -> jjwt-impl)
+ * Lombok 은 컴파일할 때 코드를 만들어 주므로 따로 등록할 필요가 없다.
+ * JVM 으로 실행할 때는 아무 영향이 없습니다.
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        TodoCreateRequestDTO.class,
+        TodoModifyRequestDTO.class,
+        TodoDetailResponseDTO.class,
+        TodoListResponseDTO.class,
+        TodoChangedEvent.class,
+        LoginRequestDTO.class,
+        UserSignUpRequestDTO.class,
+        LoginResponseDTO.class,
+        UserSignUpResponseDTO.class,
+        KakaoUserDTO.class,
+        TokenUserInfo.class
+})
+@ImportRuntimeHints(NativeHintsConfig.TodoRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class TodoRuntimeHints implements RuntimeHintsRegistrar {
+
+        // jjwt-api 가 Classes.newInstance / invokeStatic 으로 찾는 jjwt-impl, jjwt-jackson 클래스
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+                "io.jsonwebtoken.impl.crypto.MacProvider",
+                "io.jsonwebtoken.impl.crypto.EllipticCurveProvider",
+                "io.jsonwebtoken.impl.crypto.RsaProvider",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerTypeIfPresent(classLoader, type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            // jjwt-jackson 은 ServiceLoader 로 등록됨
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            for (Class<?> entity : List.of(Todo.class, User.class, JwtSigningKey.class)) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.todo.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class ObservabilityConfig {
+
+    // 지연 시간 분포(히스토그램)를 노출할 메트릭 - 나머지 메트릭은 합계/개수/최대값만 수집해서 비용을 줄인다.
+    private static final Set<String> HISTOGRAM_METRICS = Set.of(
+            "http.server.requests",
+            "http.server.requests.db.time",
+            "jwt.verify",
+            "password.encoder"
+    );
+
+    // @Observed 가 붙은 서비스 메서드에 대해 타이머와 트레이스 스팬을 생성
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    public MeterFilter histogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (HISTOGRAM_METRICS.contains(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.todo.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 비밀번호 암호화(BCrypt)에 걸리는 시간을 측정하기 위해 실제 인코더를 감싸는 객체
+@RequiredArgsConstructor
+public class ObservedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return observation("encode").observe(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return observation("matches").observe(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private Observation observation(String operation) {
+        return Observation.createNotStarted("password.encoder", observationRegistry)
+                .lowCardinalityKeyValue("operation", operation);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.todo.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DTO 클래스에서 만든 protobuf 스키마 보관소
+ * 컨버터(JacksonProtobufHttpMessageConverter)와 .proto 를 내려주는 API 가 같은 스키마를 사용하도록 빈으로 공유한다.
+ * (필드 번호는 DTO 의 프로퍼티 순서를 따르므로 DTO 에 @JsonPropertyOrder 로 순서를 고정하고, 필드는 항상 맨 뒤에 추가해야 합니다.)
+ */
+public class ProtobufSchemas {
+
+    private final ProtobufMapper mapper;
+    // 스키마 생성은 비싸므로 타입별로 한 번만 만든다.
+    private final Map<Class<?>, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * @param mapper - 스프링 부트의 Jackson2ObjectMapperBuilder 설정을 적용한 매퍼
+     */
+    public ProtobufSchemas(ProtobufMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public ProtobufMapper mapper() {
+        return mapper;
+    }
+
+    public ProtobufSchema schemaFor(Class<?> clazz) {
+        return schemas.computeIfAbsent(clazz, type -> {
+            try {
+                return mapper.generateSchemaFor(type);
+            } catch (JsonMappingException e) {
+                throw new IllegalStateException("protobuf 스키마 생성 실패 - " + type.getName(), e);
+            }
+        });
+    }
+
+    // 클라이언트에게 전달할 .proto 스키마 문자열
+    public String schemaSource(Class<?> clazz) {
+        return schemaFor(clazz).getSource().toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.todo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기동 시간 분석 (-Dstartup.profiling=true 로 실행했을 때만 동작)
+ * 서버가 뜨면 생성에 오래 걸린 빈을 느린 순서대로 출력합니다.
+ * 빈 생성 시간에는 그 빈이 의존하는 빈의 생성 시간도 포함됩니다.
+ * (예: webSecurityConfig 에는 jwtAuthFilter, tokenProvider 생성 시간이 포함)
+ * 전체 기록은 actuator 의 startup 엔드포인트로도 볼 수 있습니다.
+ */
+@Component
+@Slf4j
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    @Value("${startup.report.top:20}")
+    private int top;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) return;
+
+        // getBufferedTimeline 은 기록을 지우지 않으므로 actuator 에서도 다시 볼 수 있다.
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> slowest = timeline.getEvents().stream()
+                .filter(e -> BEAN_INSTANTIATE_STEP.equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(top)
+                .toList();
+
+        StringBuilder report = new StringBuilder();
+        for (StartupTimeline.TimelineEvent e : slowest) {
+            report.append(String.format("%n  %6d ms  %s", e.getDuration().toMillis(), beanName(e.getStartupStep())));
+        }
+        Duration timeTaken = event.getTimeTaken();
+        log.info("기동 완료까지 {} ms - 생성이 오래 걸린 빈 {}개:{}",
+                timeTaken != null ? timeTaken.toMillis() : -1, slowest.size(), report);
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) return tag.getValue();
+        }
+        return step.getName();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.todo.config;
+
+import com.example.todo.auth.InMemoryTokenRevocationList;
+import com.example.todo.auth.TokenRevocationList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TokenRevocationConfig {
+
+    // 공유 저장소 구현체가 따로 등록되어 있지 않으면 메모리 저장소를 사용.
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationList.class)
+    public TokenRevocationList tokenRevocationList() {
+        return new InMemoryTokenRevocationList();
+    }
+}
@@ -5,6 +5,8 @@ import com.example.todo.exception.CustomAccessDeniedHandler;
 import com.example.todo.exception.CustomAuthenticationEntryPoint;
 import com.example.todo.filter.JwtAuthFilter;
 import com.example.todo.filter.JwtExceptionFilter;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -41,13 +44,18 @@ public class WebSecurityConfig {
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final RequestProperties properties;
 
+    // 모니터링 시스템, 다른 서비스가 토큰 없이 접근하는 엔드포인트 (헬스 체크, 메트릭, 토큰 검증용 공개키)
+    private static final List<String> INFRA_PERMIT_PATTERNS = List.of(
+            "/actuator/health/**", "/actuator/prometheus", "/.well-known/jwks.json");
 
     // 시큐리티 기본 설정 (권한 처리, 초기 로그인 화면 없애기 ....)
     @Bean // 라이브러리 클래스 같은 내가 만들지 않은 객체를 등록해서 주입받기 위한 아노테이션.
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
         // yml 에서 가져온 허용 url 리스트를 jwtAuthFilter 에게 전달.
-        jwtAuthFilter.setPermitAllPatterns(properties.getPermitAllPatterns());
+        List<String> permitAllPatterns = new ArrayList<>(properties.getPermitAllPatterns());
+        permitAllPatterns.addAll(INFRA_PERMIT_PATTERNS);
+        jwtAuthFilter.setPermitAllPatterns(permitAllPatterns);
         log.info("리스트: {}", properties.getPermitAllPatterns());
         log.info("배열로 변환: {}", Arrays.toString(properties.getPermitAllPatterns().toArray()));
 
@@ -70,6 +78,9 @@ public class WebSecurityConfig {
                 .addFilterBefore(jwtExceptionFilter, JwtAuthFilter.class)
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
+                                // Mono 등 비동기 응답은 요청이 끝난 뒤 한 번 더 디스패치 된다.
+                                // 인가는 최초 요청에서 이미 끝났으므로 재디스패치는 허용.
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 // '/api/todos' 라는 요청이 post로 들어오고, Role 값이 ADMIN인 경우 권한 검사 없이 허용하겠다.
                                 // .requestMatchers(HttpMethod.POST, "/api/todos").hasRole("ADMIN")
                                 // /api/auth/**은 permit이지만, /promote는 검증이 필요하기 때문에 추가. (순서 조심!)
@@ -77,6 +88,9 @@ public class WebSecurityConfig {
                                 .requestMatchers(HttpMethod.PUT, "/api/auth/promote")
                                 .authenticated()
                                 .requestMatchers("/api/auth/load-profile").authenticated()
+                                // 헬스 체크, 메트릭 수집, 공개키 조회는 허용하고 나머지 actuator 는 관리자만
+                                .requestMatchers(INFRA_PERMIT_PATTERNS.toArray(String[]::new)).permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 // '/api/auth'로 시작하는 요청과 '/'요청은 권한 검사 없이 허용하겠다.
                                 .requestMatchers(Arrays.toString(properties.getPermitAllPatterns().toArray()).split(", "))
                                 .permitAll()
@@ -92,9 +106,9 @@ public class WebSecurityConfig {
 
         return http.build();
     }
-    // 비밀번호 암호화 객체를 빈 등록
+    // 비밀번호 암호화 객체를 빈 등록 (암호화/검증 시간을 측정할 수 있도록 감싸서 등록)
     @Bean
-    public PasswordEncoder encoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder encoder(ObservationRegistry observationRegistry) {
+        return new ObservedPasswordEncoder(new BCryptPasswordEncoder(), observationRegistry);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.todo.config.datasource;
+
+/**
+ * 요청 스레드가 아닌 곳에서 DB 작업을 할 때, 어느 사용자의 작업인지 라우팅 DataSource 에 직접 알려 주는 객체
+ * ReplicationRoutingDataSource 는 기본적으로 SecurityContextHolder 에서 사용자를 꺼내는데,
+ * StreamingResponseBody 의 비동기 스레드나 Reactor 의 boundedElastic 스레드에는 SecurityContext 가 전달되지 않는다.
+ * -> 이런 곳에서는 사용자를 모르므로 쓰기가 기록되지 않고, 읽기는 방금 쓴 사용자라도 복제 DB 로 간다.
+ *
+ * try (ReadYourWritesContext.Scope ignored = ReadYourWritesContext.bind(userId)) {
+ *     ... // 이 안의 트랜잭션은 userId 의 최근 쓰기 여부로 DB를 고르고, 쓰기는 userId 로 기록
+ * }
+ *
+ * 스레드에 묶이므로 bind 와 close 는 같은 스레드에서 호출해야 한다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<String> USER_ID = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static Scope bind(String userId) {
+        String previous = USER_ID.get();
+        USER_ID.set(userId);
+        return () -> {
+            if (previous == null) {
+                USER_ID.remove();
+            } else {
+                USER_ID.set(previous);
+            }
+        };
+    }
+
+    // 직접 지정한 사용자 (없으면 null)
+    static String currentUserId() {
+        return USER_ID.get();
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
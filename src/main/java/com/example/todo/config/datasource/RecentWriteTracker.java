@@ -0,0 +1,35 @@
+package com.example.todo.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 마지막 쓰기 시각을 기록해서, 복제 지연 시간 안에는 원본 DB에서 읽도록 판단하는 객체
+public class RecentWriteTracker {
+
+    // 이 개수를 넘으면 쓰기를 기록할 때 만료된 기록을 정리한다.
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public RecentWriteTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWrite(String userId) {
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            long now = System.nanoTime();
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+        lastWrites.put(userId, System.nanoTime());
+    }
+
+    public boolean hasRecentWrite(String userId) {
+        Long writtenAt = lastWrites.get(userId);
+        if (writtenAt == null) return false;
+        if (System.nanoTime() - writtenAt < windowNanos) return true;
+        lastWrites.remove(userId, writtenAt);
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.todo.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ datasource.replication.enabled=true 일 때만 동작합니다.
+ 설정하지 않으면 기존처럼 spring.datasource 하나만 사용합니다.
+
+ datasource:
+   replication:
+     enabled: true
+     read-your-writes-window: 3s
+     primary:
+       url: jdbc:mysql://localhost:3306/todo
+       username: root
+       password: ...
+     replicas:
+       - url: jdbc:mysql://localhost:3307/todo
+         username: root
+         password: ...
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replication", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicationProperties.class)
+@Slf4j
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicationRoutingDataSource.PRIMARY,
+                createDataSource("primary", properties.getPrimary(), meterRegistry));
+
+        List<String> replicaKeys = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, createDataSource(key, properties.getReplicas().get(i), meterRegistry));
+            replicaKeys.add(key);
+        }
+        log.info("읽기 전용 트랜잭션을 복제 DB {}개로 분산합니다.", replicaKeys.size());
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                replicaKeys, new RecentWriteTracker(properties.getReadYourWritesWindow()));
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(targets.get(ReplicationRoutingDataSource.PRIMARY));
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션이 시작될 때가 아니라 실제 쿼리를 실행할 때 커넥션을 가져오도록 감싼다.
+        // -> readOnly 여부가 트랜잭션에 반영된 뒤에 어느 DB를 사용할 지 결정할 수 있다.
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createDataSource(String name,
+                                              ReplicationProperties.Node node,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword());
+        // 드라이버를 지정하지 않으면 url 을 보고 자동으로 결정
+        if (node.getDriverClassName() != null) {
+            builder.driverClassName(node.getDriverClassName());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("todo-" + name);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        // 라우팅 DataSource 안쪽의 풀은 빈이 아니라서 자동으로 메트릭이 등록되지 않으므로 직접 연결
+        meterRegistry.ifAvailable(registry ->
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return dataSource;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.todo.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// yml 의 datasource.replication 설정을 읽어오는 객체
+@Getter @Setter
+@ConfigurationProperties(prefix = "datasource.replication")
+public class ReplicationProperties {
+
+    private boolean enabled;
+
+    // 쓰기 요청을 처리할 원본 DB
+    private Node primary = new Node();
+
+    // 읽기 전용 트랜잭션을 나눠서 처리할 복제 DB 목록
+    private List<Node> replicas = new ArrayList<>();
+
+    // 사용자가 직접 쓰기를 한 뒤 이 시간 동안은 복제 지연을 피하기 위해 원본 DB에서 읽는다.
+    private Duration readYourWritesWindow = Duration.ofSeconds(3);
+
+    @Getter @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.config.datasource;
+
+import com.example.todo.auth.TokenUserInfo;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 종류에 따라 커넥션을 가져올 DB를 결정하는 DataSource
+ * - @Transactional(readOnly = true) -> 복제 DB (라운드 로빈)
+ * - 그 외의 트랜잭션 -> 원본 DB
+ * - 방금 쓰기를 한 사용자의 읽기 -> 복제 지연으로 변경 전 데이터를 보지 않도록 원본 DB
+ * 사용자는 ReadYourWritesContext 로 직접 지정한 값, 없으면 SecurityContextHolder 의 인증 정보에서 꺼낸다.
+ * (SecurityContext 가 없는 비동기 스레드에서는 ReadYourWritesContext 로 지정해야 최근 쓰기가 반영됨)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final RecentWriteTracker writeTracker;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(List<String> replicaKeys, RecentWriteTracker writeTracker) {
+        this.replicaKeys = replicaKeys;
+        this.writeTracker = writeTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userId = currentUserId();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaKeys.isEmpty() || (userId != null && writeTracker.hasRecentWrite(userId))) {
+                return PRIMARY;
+            }
+            return replicaKeys.get(Math.floorMod(counter.getAndIncrement(), replicaKeys.size()));
+        }
+
+        if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            writeTracker.markWrite(userId);
+            // 복제 지연 시간은 커밋 시점부터 계산해야 하므로 트랜잭션이 끝날 때 한 번 더 기록
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        writeTracker.markWrite(userId);
+                    }
+                });
+            }
+        }
+        return PRIMARY;
+    }
+
+    // 직접 지정한 사용자가 없다면 인증 필터에서 등록한 사용자 정보에서 아이디를 꺼낸다.
+    private String currentUserId() {
+        String boundUserId = ReadYourWritesContext.currentUserId();
+        if (boundUserId != null) {
+            return boundUserId;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TokenUserInfo userInfo) {
+            return userInfo.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.todo.config.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+// 로그 샘플링 등에 사용하는 마커 모음
+public final class LogMarkers {
+
+    // 요청마다 찍히는 로그 - RequestLogSamplingFilter 가 일부만 남긴다.
+    public static final Marker REQUEST = MarkerFactory.getMarker("REQUEST");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.todo.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REQUEST 마커가 붙은 로그를 설정한 비율만큼만 남기는 필터.
+ * TurboFilter 는 로그 이벤트 객체를 만들기 전에 실행되므로, 버려지는 로그는 메세지 포맷팅 비용도 들지 않는다.
+ */
+public class RequestLogSamplingFilter extends TurboFilter {
+
+    private double sampleRate = 1.0;
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(LogMarkers.REQUEST)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
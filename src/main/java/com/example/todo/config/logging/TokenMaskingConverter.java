@@ -0,0 +1,45 @@
+package com.example.todo.config.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.regex.Pattern;
+
+// 로그 메세지에 토큰, 비밀번호가 섞여 있다면 가려서 출력하는 컨버터 (logback-spring.xml 의 %maskedMsg)
+public class TokenMaskingConverter extends MessageConverter {
+
+    private static final Pattern JWT = Pattern.compile("eyJ[\\w-]+\\.[\\w-]+\\.[\\w-]*");
+    private static final Pattern BEARER = Pattern.compile("(?i)bearer\\s+\\S+");
+    private static final Pattern SECRET_FIELD = Pattern.compile(
+            "(?i)(password|access_?token|refresh_?token|client_secret)(\\s*[=:]\\s*)[^,\\s})]+");
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return mask(super.convert(event));
+    }
+
+    static String mask(String message) {
+        // 대부분의 로그에는 민감 정보가 없으므로 정규식을 돌리기 전에 빠르게 걸러낸다.
+        if (message == null || !mayContainSecret(message)) {
+            return message;
+        }
+        String masked = JWT.matcher(message).replaceAll("eyJ***");
+        masked = BEARER.matcher(masked).replaceAll("Bearer ***");
+        return SECRET_FIELD.matcher(masked).replaceAll("$1$2***");
+    }
+
+    private static boolean mayContainSecret(String message) {
+        return message.contains("eyJ")
+                || containsIgnoreCase(message, "bearer")
+                || containsIgnoreCase(message, "token")
+                || containsIgnoreCase(message, "password")
+                || containsIgnoreCase(message, "secret");
+    }
+
+    private static boolean containsIgnoreCase(String message, String keyword) {
+        for (int i = 0; i <= message.length() - keyword.length(); i++) {
+            if (message.regionMatches(true, i, keyword, 0, keyword.length())) return true;
+        }
+        return false;
+    }
+}
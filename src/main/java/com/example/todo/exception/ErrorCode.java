@@ -10,8 +10,10 @@ public enum ErrorCode {
 
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "로그아웃 된 토큰입니다."),
     INVALID_AUTH(HttpStatus.UNAUTHORIZED, "검증되지 않은 사용자 입니다."),
-    FORBIDDEN_AUTH(HttpStatus.FORBIDDEN, "권한이 없는 사용자 입니다.");
+    FORBIDDEN_AUTH(HttpStatus.FORBIDDEN, "권한이 없는 사용자 입니다."),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
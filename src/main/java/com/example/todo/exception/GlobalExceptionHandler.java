@@ -1,7 +1,10 @@
 package com.example.todo.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -35,6 +38,32 @@ public class GlobalExceptionHandler {
         log.info("handleIllegalException  호출중!");
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
     }
+    @ExceptionHandler(TodoNotFoundException.class)
+    public ResponseEntity<?> handleTodoNotFound(TodoNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+    // 다른 기기에서 먼저 수정된 데이터를 덮어쓰려는 경우 (@Version 충돌) -> 409
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("수정 충돌 발생: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("다른 곳에서 먼저 수정되었습니다. 목록을 다시 불러와 주세요.");
+    }
+    // 같은 Idempotency-Key 를 내용이 다른 요청에 재사용한 경우 -> 422 (처음 결과를 잘못 돌려주지 않도록 거부)
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<?> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+    }
+    // 동시에 열 수 있는 SSE 연결 수 초과 -> 429 (클라이언트는 다른 연결을 닫거나 잠시 후 다시 연결)
+    @ExceptionHandler(TooManyConnectionsException.class)
+    public ResponseEntity<?> handleTooManyConnections(TooManyConnectionsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+    }
+    // 카카오 장애로 서킷이 열려 있거나 카카오로 나가는 요청이 너무 많은 경우 -> 기다리지 않고 바로 503
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<?> handleKakaoUnavailable(RuntimeException e) {
+        log.warn("카카오 호출 차단: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("카카오 로그인을 잠시 사용할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleRuntimeException(Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
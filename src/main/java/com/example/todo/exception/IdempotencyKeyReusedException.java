@@ -0,0 +1,9 @@
+package com.example.todo.exception;
+
+// 같은 Idempotency-Key 로 내용이 다른 요청을 보낸 경우 (422)
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
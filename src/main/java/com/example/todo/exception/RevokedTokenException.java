@@ -0,0 +1,11 @@
+package com.example.todo.exception;
+
+import io.jsonwebtoken.JwtException;
+
+// 로그아웃 등으로 무효화된 토큰으로 요청한 경우
+public class RevokedTokenException extends JwtException {
+
+    public RevokedTokenException(String message) {
+        super(message);
+    }
+}
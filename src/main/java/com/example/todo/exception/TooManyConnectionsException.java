@@ -0,0 +1,9 @@
+package com.example.todo.exception;
+
+// 한 회원이 동시에 열 수 있는 연결(SSE) 수를 넘은 경우 (429)
+public class TooManyConnectionsException extends RuntimeException {
+
+    public TooManyConnectionsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.todo.filter;
+
+import com.example.todo.config.JdbcObservationListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나가 DB에서 보낸 시간과 실행한 쿼리 개수를 엔드포인트 별로 기록하는 필터
+// 쿼리는 p6spy 리스너(JdbcObservationListener)가 세므로, p6spy 를 끄는 네이티브에서는 0 만 기록하지 않도록 등록하지 않는다.
+@Component
+@Profile("!native")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class DbTimeMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        JdbcObservationListener.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long[] stats = JdbcObservationListener.endRequest();
+
+            // 컨트롤러에 매핑된 url 패턴 (/api/todos/{id}) 으로 태그를 달아서 메트릭 개수가 늘어나지 않도록
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            Timer.builder("http.server.requests.db.time")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(stats[0], TimeUnit.NANOSECONDS);
+            DistributionSummary.builder("http.server.requests.db.queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(stats[1]);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.todo.filter;
 
 import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenRevocationList;
 import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.exception.RevokedTokenException;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +31,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    public static final String TOKEN_REFRESH_HINT_HEADER = "X-Token-Refresh-Hint";
+
     private final TokenProvider tokenProvider;
+    private final ObservationRegistry observationRegistry;
+    private final TokenRevocationList revocationList;
     private List<String> permitAllPatterns;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
@@ -42,12 +50,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String token = parseBearerToken(request);
-        log.info("JWT Token Filter is running... - token: {}", token);
 
         String requestURI = request.getRequestURI();
         boolean isPermitAllUrl = permitAllPatterns.stream()
                 .anyMatch(pattern -> pathMatcher.match(pattern, requestURI));
-        log.info("isPermitAllUrl: {} ", isPermitAllUrl);
+        log.debug("isPermitAllUrl: {} - {}", isPermitAllUrl, requestURI);
 
         if (isPermitAllUrl) {
             filterChain.doFilter(request, response);
@@ -58,14 +65,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         // 토큰 위조검사 및 인증 완료 처리
         if (token != null && !token.equals("null")) {
             // 토큰 서명 위조 검사와 토큰을 파싱해서 클레임을 얻어내는 작업.
-            TokenUserInfo tokenUserInfo = tokenProvider.validateAndGetTokenUserInfo(token);
+            // 서명 검증에 걸리는 시간을 jwt.verify 타이머(스팬)로 기록
+            TokenUserInfo tokenUserInfo = Observation.createNotStarted("jwt.verify", observationRegistry)
+                    .observe(() -> tokenProvider.validateAndGetTokenUserInfo(token));
+
+            // 로그아웃으로 무효화된 토큰인지 확인
+            if (revocationList.isRevoked(tokenUserInfo.getTokenId())) {
+                throw new RevokedTokenException("무효화된 토큰입니다.");
+            }
 
             // spring security에게 전달할 인가 정보 리스트를 생성.
             // 권한이 여러 개 존재할 경우 리스트로 권한 체크에 사용할 필드를 add
             // 우리는 Role 타입의 필드 하나만으로 권한을 체크하기 때문에 하나만 add, 여러개라면 여러 개 add 하세요.
             List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
             authorityList.add(new SimpleGrantedAuthority("ROLE_" + tokenUserInfo.getRole().toString()));
-            log.info("{}", authorityList.get(0).toString());
+            log.debug("authority: {}", authorityList.get(0));
 
             // 인증 완료 처리
             // spring security에게 인증정보를 전달해서 전역적으로 어플리케이션 내에서
@@ -82,6 +96,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             // 스프링 시큐리티 컨테이너에 인증 정보 객체를 등록
             SecurityContextHolder.getContext().setAuthentication(auth);
 
+            // 토큰 만료가 임박했다면 클라이언트가 401을 받기 전에 미리 재발급할 수 있도록 헤더로 알려준다.
+            if (tokenProvider.isRefreshRecommended(tokenUserInfo)) {
+                response.setHeader(TOKEN_REFRESH_HINT_HEADER, "true");
+            }
+
         } else {
             log.warn("인증이 필요합니다 토큰이 없음");
             throw new IllegalArgumentException();
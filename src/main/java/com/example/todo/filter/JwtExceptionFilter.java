@@ -1,28 +1,34 @@
 package com.example.todo.filter;
 
 import com.example.todo.exception.ErrorCode;
+import com.example.todo.exception.RevokedTokenException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.apache.bcel.classfile.Code;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 @Component
 @Slf4j
 public class JwtExceptionFilter extends OncePerRequestFilter {
+
+    private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+    // 에러 응답 바디는 ErrorCode 마다 항상 같으므로 미리 JSON 바이트로 만들어 둔다.
+    // -> 토큰 만료가 몰리는 상황에서도 요청마다 ObjectMapper, Map 을 생성하지 않음.
+    private static final Map<ErrorCode, byte[]> ERROR_BODIES = createErrorBodies();
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         response.setCharacterEncoding("UTF-8");
@@ -31,34 +37,54 @@ public class JwtExceptionFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         } catch (ExpiredJwtException e) {
             // 토큰이 만료되었을 시 Auth Filter에서 예외가 발생 -> 앞에 있는 Exception Filter로 전달.
-            log.warn("ExpiredJwtException 발생함!");
+            log.debug("ExpiredJwtException 발생함!");
             setErrorResponse(response, ErrorCode.EXPIRED_TOKEN);
+        } catch (RevokedTokenException e) {
+            log.debug("무효화된 토큰으로 요청함!");
+            setErrorResponse(response, ErrorCode.REVOKED_TOKEN);
         } catch (JwtException e) {
-            log.warn("JwtException 발생함!");
+            log.debug("JwtException 발생함!");
             setErrorResponse(response, ErrorCode.INVALID_TOKEN);
         } catch (IllegalArgumentException e) {
-            log.warn("토큰이 전달되지 않음!");
+            log.debug("토큰이 전달되지 않음!");
             setErrorResponse(response, ErrorCode.INVALID_AUTH);
         } catch (Exception e) {
-            log.warn("알 수 없는 예외 발생!");
+            log.error("알 수 없는 예외 발생!", e);
+            setErrorResponse(response, ErrorCode.INTERNAL_ERROR);
         }
     }
 
     private void setErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
-        response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType("application/json; charset=UTF-8");
-
-        // Map 생성 및 데이터 추가
-        Map<String, Object> responseMap = new HashMap<>();
-        responseMap.put("message", errorCode.toString());
-        responseMap.put("code", errorCode.getHttpStatus());
+        // 이미 응답이 나가기 시작했다면 상태 코드를 바꿀 수 없다.
+        if (response.isCommitted()) {
+            log.warn("응답이 이미 전송되어 에러 응답을 보낼 수 없습니다. - {}", errorCode);
+            return;
+        }
+        byte[] body = ERROR_BODIES.get(errorCode);
 
-        // Map을 JSON 문자열로 변환
-        String jsonString = new ObjectMapper().writeValueAsString(responseMap);
+        response.resetBuffer();
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
 
         // JSON 데이터를 응답객체에 실어서 브라우저로 바로 응답.
-        response.getWriter().write(jsonString);
+        response.getOutputStream().write(body);
     }
 
+    private static Map<ErrorCode, byte[]> createErrorBodies() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            Map<String, Object> responseMap = new HashMap<>();
+            responseMap.put("message", errorCode.toString());
+            responseMap.put("code", errorCode.getHttpStatus());
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(responseMap));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 생성 실패 - " + errorCode, e);
+            }
+        }
+        return bodies;
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.example.todo.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 할 일 목록(GET /api/todos) 응답을 gzip 으로 압축해 두고 같은 내용이면 다시 압축하지 않는 필터
+ * - 응답 내용의 해시를 목록의 버전(ETag)으로 사용 -> 목록이 바뀌지 않았다면 저장해 둔 압축 결과를 그대로 응답
+ * - If-None-Match 가 같다면 본문 없이 304
+ * - 그 밖의 응답은 톰캣의 server.compression 설정이 압축합니다. (이미 압축된 이미지는 대상 아님)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class PrecompressedTodoListFilter extends OncePerRequestFilter {
+
+    private static final String TODO_LIST_URI = "/api/todos";
+    private static final List<MediaType> COMPRESSIBLE_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    private final long minResponseSize;
+    private final int maxEntries;
+    // ETag -> 압축된 본문 (최대 개수를 넘으면 가장 오래 사용하지 않은 것부터 제거)
+    private final Map<String, byte[]> compressedBodies;
+
+    public PrecompressedTodoListFilter(
+            @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize,
+            @Value("${compression.precompressed-cache.max-entries:1000}") int maxEntries
+    ) {
+        this.minResponseSize = minResponseSize.toBytes();
+        this.maxEntries = maxEntries;
+        this.compressedBodies = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > PrecompressedTodoListFilter.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 스트리밍 응답(stream=true)은 버퍼링하면 의미가 없으므로 제외
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !TODO_LIST_URI.equals(request.getRequestURI())
+                || "true".equals(request.getParameter("stream"))
+                || !acceptsGzip(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK
+                || body.length < minResponseSize
+                || !isCompressible(wrapper.getContentType())
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "-gzip\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // 클라이언트가 가진 목록과 같다면 본문 없이 응답
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] compressed = getOrCompress(etag, body);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    private byte[] getOrCompress(String etag, byte[] body) throws IOException {
+        synchronized (compressedBodies) {
+            byte[] cached = compressedBodies.get(etag);
+            if (cached != null) return cached;
+        }
+        // 압축은 락 밖에서 (같은 목록이 동시에 요청되면 중복 압축될 수 있지만 결과는 같다)
+        byte[] compressed = gzip(body);
+        synchronized (compressedBodies) {
+            compressedBodies.put(etag, compressed);
+        }
+        log.debug("할 일 목록 압축 - {} bytes -> {} bytes", body.length, compressed.length);
+        return compressed;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static boolean isCompressible(String contentType) {
+        if (contentType == null) return false;
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return COMPRESSIBLE_TYPES.stream().anyMatch(type -> type.includes(mediaType));
+    }
+}
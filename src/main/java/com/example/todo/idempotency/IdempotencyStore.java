@@ -0,0 +1,24 @@
+package com.example.todo.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더로 들어온 요청의 처리 결과를 보관하는 저장소.
+ * 기본 구현은 노드 메모리에 저장하지만, 여러 서버가 결과를 공유해야 한다면
+ * 같은 인터페이스로 Redis 등의 공유 저장소 구현체를 빈으로 등록하면 됩니다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키에 해당하는 결과가 있으면 그대로 돌려주고, 없으면 action 을 한 번만 실행해서 저장합니다.
+     * 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 기다립니다.
+     * action 이 실패한 경우에는 결과를 저장하지 않아 재시도가 가능해야 합니다.
+     * 같은 키인데 요청 내용(fingerprint)이 처음과 다르면 저장된 결과를 돌려주지 않고 IdempotencyKeyReusedException 을 던집니다.
+     *
+     * @param key - 사용자와 요청 종류가 포함된 멱등성 키
+     * @param fingerprint - 요청 내용의 해시 (처음 요청과 같은 내용인지 비교)
+     * @param action - 처음 요청일 때 실행할 작업
+     * @return - 처음 실행한 결과 또는 저장되어 있던 결과
+     */
+    <T> T execute(String key, String fingerprint, Supplier<T> action);
+}
@@ -0,0 +1,87 @@
+package com.example.todo.idempotency;
+
+import com.example.todo.exception.IdempotencyKeyReusedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// 개수 제한(LRU)과 만료 시간을 가진 메모리 기반 멱등성 저장소 (같은 키의 재요청은 요청 내용의 해시로 비교)
+@Slf4j
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    // 테스트에서 시간을 옮길 수 있도록 분리
+    private Clock clock = Clock.systemUTC();
+
+    public InMemoryIdempotencyStore(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        // 접근 순서를 유지하는 맵 (get 으로 조회한 키는 맨 뒤로) -> 최대 개수를 넘으면 가장 오래 쓰이지 않은 키부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > InMemoryIdempotencyStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String fingerprint, Supplier<T> action) {
+        Entry entry;
+        boolean first = false;
+        synchronized (entries) {
+            long now = clock.millis();
+            entry = entries.get(key);
+            if (entry == null || entry.expiresAt < now) {
+                entry = new Entry(new CompletableFuture<>(), fingerprint, now + ttlMillis);
+                entries.put(key, entry);
+                first = true;
+            }
+        }
+
+        // 같은 키로 다른 내용을 보냈다면 처음 결과를 돌려주면 안 된다. (클라이언트의 키 재사용 실수)
+        if (!first && !entry.fingerprint.equals(fingerprint)) {
+            log.warn("멱등성 키가 다른 요청에 재사용되었습니다. key: {}", key);
+            throw new IdempotencyKeyReusedException("이미 다른 요청에 사용한 Idempotency-Key 입니다. 새 키로 다시 요청해 주세요.");
+        }
+
+        if (first) {
+            try {
+                T result = action.get();
+                entry.result.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                // 실패한 결과는 저장하지 않는다 -> 같은 키로 다시 시도할 수 있도록.
+                synchronized (entries) {
+                    entries.remove(key, entry);
+                }
+                entry.result.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        log.debug("멱등성 키 재요청 - 저장된 결과를 반환합니다. key: {}", key);
+        try {
+            return (T) entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private record Entry(CompletableFuture<Object> result, String fingerprint, long expiresAt) {
+    }
+}
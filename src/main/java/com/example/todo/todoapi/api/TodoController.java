@@ -1,21 +1,35 @@
 package com.example.todo.todoapi.api;
 
 import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.config.datasource.ReadYourWritesContext;
+import com.example.todo.idempotency.IdempotencyStore;
 import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
 import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
 import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.event.TodoEventBroadcaster;
 import com.example.todo.todoapi.service.TodoService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.antlr.v4.runtime.Token;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.function.Supplier;
+
+import static com.example.todo.config.logging.LogMarkers.REQUEST;
 
 @RestController // 요청에 맞는 json만 줌
 @RequiredArgsConstructor
@@ -24,6 +38,9 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
+    private final IdempotencyStore idempotencyStore;
+    private final TodoEventBroadcaster todoEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     // 할 일 등록하기
     @PostMapping
@@ -32,15 +49,16 @@ public class TodoController {
             // AuthenticationPrincipal 을 통해 토큰에 인증된 사용자 정보를 불러올 수 있다.
             @AuthenticationPrincipal TokenUserInfo userInfo,
             @Validated @RequestBody TodoCreateRequestDTO requestDTO,
-            BindingResult result
+            BindingResult result,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        log.info("/api/todos GET! - dto: {}", requestDTO);
-        log.info("TokenUserInfo: {}", userInfo);
+        log.info(REQUEST, "/api/todos POST request!");
         ResponseEntity<List<FieldError>> validatedResult = getValidatedResult(result);
         if (validatedResult != null) return validatedResult;
 
 
-        TodoListResponseDTO responseDTO = todoService.create(requestDTO, userInfo.getUserId());
+        TodoListResponseDTO responseDTO = executeIdempotent(idempotencyKey, userInfo, "create", requestDTO,
+                () -> todoService.create(requestDTO, userInfo.getUserId()));
         return ResponseEntity
                 .ok()
                 .body(responseDTO);
@@ -52,21 +70,53 @@ public class TodoController {
     public ResponseEntity<?> retrieveTodoList(
             @AuthenticationPrincipal TokenUserInfo userInfo
     ) {
-        log.info("/api/todos GET request!");
+        log.info(REQUEST, "/api/todos GET request!");
 
-        TodoListResponseDTO responseDTO = todoService.findAll(userInfo.getUserId());
+        TodoListResponseDTO responseDTO = todoService.findAllShared(userInfo.getUserId());
         return ResponseEntity.ok().body(responseDTO);
 
 
 
     }
 
+    // 할 일 목록 스트리밍 요청 - 목록이 아주 많을 때 한 건씩 읽어서 바로 응답 (메모리 사용량이 목록 크기와 무관)
+    // GET: /api/todos?stream=true
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamTodoList(
+            @AuthenticationPrincipal TokenUserInfo userInfo
+    ) {
+        log.info(REQUEST, "/api/todos?stream=true GET request!");
+
+        String userId = userInfo.getUserId();
+        // 응답은 비동기 스레드에서 쓰므로 (SecurityContext 없음) 복제 DB 라우팅에 사용자를 직접 알려 준다.
+        StreamingResponseBody body = out -> {
+            try (ReadYourWritesContext.Scope ignored = ReadYourWritesContext.bind(userId)) {
+                todoService.writeAll(userId, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 할 일 변경 구독 (Server-Sent Events) - 주기적으로 목록을 다시 조회하는 대신 변경이 있을 때만 푸시 받음
+    // GET: /api/todos/stream  (Authorization: Bearer 토큰)
+    // 이벤트: created, updated, deleted, done_cleared, resync(목록을 다시 조회해야 함)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTodoChanges(
+            @AuthenticationPrincipal TokenUserInfo userInfo
+    ) {
+        log.info(REQUEST, "/api/todos/stream GET request!");
+        return todoEventBroadcaster.subscribe(userInfo.getUserId());
+    }
+
     // 할 일 삭제 요청
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTodo(
             @AuthenticationPrincipal TokenUserInfo userInfo,
-            @PathVariable ("id") String todoId) {
-        log.info("api/todos/{} DELETE request!", todoId);
+            @PathVariable ("id") String todoId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        log.info(REQUEST, "api/todos/{} DELETE request!", todoId);
 
         if (todoId == null || todoId.trim().equals("")) {
             return ResponseEntity.badRequest()
@@ -74,23 +124,45 @@ public class TodoController {
         }
 
 
-        TodoListResponseDTO responseDTO = todoService.delete(todoId, userInfo.getUserId());
+        TodoListResponseDTO responseDTO = executeIdempotent(idempotencyKey, userInfo, "delete", todoId,
+                () -> todoService.delete(todoId, userInfo.getUserId()));
         return ResponseEntity.ok().body(responseDTO);
 
     }
 
+    // 완료된 할 일 일괄 삭제 요청
+    // DELETE: /api/todos?done=true
+    @DeleteMapping
+    public ResponseEntity<?> deleteDoneTodos(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @RequestParam("done") boolean done,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        log.info(REQUEST, "api/todos?done={} DELETE request!", done);
+
+        if (!done) {
+            return ResponseEntity.badRequest()
+                    .body("완료된 할 일만 일괄 삭제할 수 있습니다.");
+        }
+
+        TodoListResponseDTO responseDTO = executeIdempotent(idempotencyKey, userInfo, "delete-done", done,
+                () -> todoService.deleteDone(userInfo.getUserId()));
+        return ResponseEntity.ok().body(responseDTO);
+    }
+
     // 할 일 수정 요청
     @PatchMapping
     public ResponseEntity<?> updateTodo(
             @AuthenticationPrincipal TokenUserInfo userInfo,
             @Validated @RequestBody TodoModifyRequestDTO requestDTO,
-            BindingResult result
+            BindingResult result,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
         ResponseEntity<List<FieldError>> validatedResult = getValidatedResult(result);
         if (validatedResult != null) return validatedResult;
 
 
-        return ResponseEntity.ok().body(todoService.update(requestDTO, userInfo.getUserId()));
+        return ResponseEntity.ok().body(executeIdempotent(idempotencyKey, userInfo, "update", requestDTO,
+                () -> todoService.update(requestDTO, userInfo.getUserId())));
 
 
 
@@ -98,12 +170,37 @@ public class TodoController {
 
 
 
+    // Idempotency-Key 헤더가 있다면 같은 키의 재요청은 DB를 거치지 않고 처음 결과를 그대로 응답
+    // 같은 키로 내용(request)이 다른 요청이 오면 422
+    private TodoListResponseDTO executeIdempotent(String idempotencyKey,
+                                                  TokenUserInfo userInfo,
+                                                  String action,
+                                                  Object request,
+                                                  Supplier<TodoListResponseDTO> supplier) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return supplier.get();
+        }
+        // 다른 사용자나 다른 요청 종류와 키가 겹치지 않도록 사용자 아이디와 요청 종류를 함께 묶는다.
+        String key = userInfo.getUserId() + ":" + action + ":" + idempotencyKey;
+        return idempotencyStore.execute(key, fingerprint(request), supplier);
+    }
+
+    // 요청 내용의 SHA-256 (DTO 는 @JsonPropertyOrder 로 필드 순서가 고정되어 있어서 같은 내용이면 같은 값)
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("멱등성 키 검사를 위한 요청 해시 생성 실패", e);
+        }
+    }
+
     // 입력값 검증(Validation)의 결과를 처리해 주는 전역 메서드
     private static ResponseEntity<List<FieldError>> getValidatedResult(BindingResult result) {
         if (result.hasErrors()) { // 입력값 검증 단계에서 문제가 있었다면 true
             List<FieldError> fieldErrors = result.getFieldErrors();
             fieldErrors.forEach(err -> {
-                log.warn("invalid client data - {}", err.toString());
+                log.warn("invalid client data - {}", err);
             });
             return ResponseEntity
                     .badRequest()
@@ -0,0 +1,61 @@
+package com.example.todo.todoapi.api;
+
+import com.example.todo.config.ProtobufSchemas;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * application/x-protobuf 로 할 일 API 를 사용하는 클라이언트에게 .proto 스키마를 내려준다.
+ * 서버가 실제로 (역)직렬화에 사용하는 스키마와 같으므로, 클라이언트는 이 파일로 코드를 생성하면 된다.
+ * GET /api/todos/proto                           -> 받을 수 있는 스키마 이름 목록
+ * GET /api/todos/proto/TodoListResponseDTO.proto -> 해당 DTO 의 .proto
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/todos/proto")
+public class TodoProtoController {
+
+    // 할 일 API 가 protobuf 로 주고받는 DTO (목록, 상세, 등록/수정 요청)
+    private static final Map<String, Class<?>> MESSAGES = List.of(
+            TodoListResponseDTO.class,
+            TodoDetailResponseDTO.class,
+            TodoCreateRequestDTO.class,
+            TodoModifyRequestDTO.class
+    ).stream().collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ProtobufSchemas protobufSchemas;
+
+    @GetMapping
+    public ResponseEntity<List<String>> schemaNames() {
+        return ResponseEntity.ok(MESSAGES.keySet().stream()
+                .sorted()
+                .map(name -> name + ".proto")
+                .toList());
+    }
+
+    @GetMapping("/{message}.proto")
+    public ResponseEntity<String> schema(@PathVariable String message) {
+        Class<?> type = MESSAGES.get(message);
+        if (type == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(protobufSchemas.schemaSource(type));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.todo.todoapi.dto.request;
 
 import com.example.todo.todoapi.entity.Todo;
 import com.example.todo.userapi.entity.User;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -11,6 +12,8 @@ import lombok.*;
 @AllArgsConstructor
 @EqualsAndHashCode
 @Builder
+// protobuf 필드 번호가 이 순서로 정해지므로 바꾸지 말고, 새 필드는 맨 뒤에 추가
+@JsonPropertyOrder("title")
 public class TodoCreateRequestDTO {
 
     @NotBlank
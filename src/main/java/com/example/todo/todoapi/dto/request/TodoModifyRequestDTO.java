@@ -1,5 +1,6 @@
 package com.example.todo.todoapi.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
@@ -10,12 +11,17 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// protobuf 필드 번호가 이 순서로 정해지므로 바꾸지 말고, 새 필드는 맨 뒤에 추가
+@JsonPropertyOrder({"id", "done", "version"})
 public class TodoModifyRequestDTO {
 
     @NotBlank
     private String id;
 
     private boolean done;
+
+    // 클라이언트가 마지막으로 조회한 버전 (전달하지 않으면 버전 검사를 생략)
+    private Long version;
 }
 
 
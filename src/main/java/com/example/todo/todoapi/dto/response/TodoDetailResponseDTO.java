@@ -1,6 +1,7 @@
 package com.example.todo.todoapi.dto.response;
 
 import com.example.todo.todoapi.entity.Todo;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.*;
 
 @Setter @Getter @ToString
@@ -8,11 +9,14 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// protobuf 필드 번호가 이 순서로 정해지므로 바꾸지 말고, 새 필드는 맨 뒤에 추가
+@JsonPropertyOrder({"id", "title", "done", "version"})
 public class TodoDetailResponseDTO {
 
     private String id;
     private String title;
     private boolean done;
+    private long version; // 수정 요청 시 돌려보낼 버전
 
 
     // 엔터티를 DTO 로 변경하는 생성자
@@ -20,6 +24,7 @@ public class TodoDetailResponseDTO {
         this.id = todo.getTodoId();
         this.title = todo.getTitle();
         this.done = todo.isDone();
+        this.version = todo.getVersion();
     }
 
 }
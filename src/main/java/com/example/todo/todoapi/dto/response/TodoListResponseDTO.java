@@ -1,5 +1,6 @@
 package com.example.todo.todoapi.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.*;
 
 import java.util.List;
@@ -11,6 +12,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// protobuf 필드 번호가 이 순서로 정해지므로 바꾸지 말고, 새 필드는 맨 뒤에 추가
+@JsonPropertyOrder({"error", "todos"})
 public class TodoListResponseDTO {
 
     // 페이징에 필요한 정보 등도 함께 담아서 클라이언트로 리턴할 용도로 생성하는 DTO
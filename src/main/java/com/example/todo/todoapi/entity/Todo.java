@@ -33,6 +33,10 @@ public class Todo {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 낙관적 락 버전 - 여러 기기에서 동시에 수정할 때 나중 요청이 앞 요청을 덮어쓰지 않도록 검사
+    @Version
+    private long version;
+
 
 }
 
@@ -0,0 +1,34 @@
+package com.example.todo.todoapi.event;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+
+/**
+ * 할 일이 변경되었을 때 TodoService 가 발행하는 이벤트 -> 같은 회원의 다른 기기로 SSE 푸시
+ *
+ * @param userId - 할 일 작성자 (이벤트를 받을 회원)
+ * @param todoId - 변경된 할 일 (DONE_CLEARED 는 null)
+ * @param todo   - 변경 후의 할 일 (삭제된 경우 null)
+ */
+public record TodoChangedEvent(String userId, Type type, String todoId, TodoDetailResponseDTO todo) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        DONE_CLEARED // 완료된 할 일 일괄 삭제
+    }
+
+    public static TodoChangedEvent created(String userId, TodoDetailResponseDTO todo) {
+        return new TodoChangedEvent(userId, Type.CREATED, todo.getId(), todo);
+    }
+
+    public static TodoChangedEvent updated(String userId, TodoDetailResponseDTO todo) {
+        return new TodoChangedEvent(userId, Type.UPDATED, todo.getId(), todo);
+    }
+
+    public static TodoChangedEvent deleted(String userId, String todoId) {
+        return new TodoChangedEvent(userId, Type.DELETED, todoId, null);
+    }
+
+    public static TodoChangedEvent doneCleared(String userId) {
+        return new TodoChangedEvent(userId, Type.DONE_CLEARED, null, null);
+    }
+}
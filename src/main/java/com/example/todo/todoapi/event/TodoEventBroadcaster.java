@@ -0,0 +1,299 @@
+package com.example.todo.todoapi.event;
+
+import com.example.todo.exception.TooManyConnectionsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 할 일 변경 이벤트를 SSE 로 연결된 기기들에게 전달
+ * - 연결(SseEmitter)은 비동기 요청이므로 대기 중인 연결이 요청 스레드를 점유하지 않는다.
+ * - 연결마다 크기가 제한된 큐를 두고, 소수의 전송 스레드가 큐를 비우면서 전송
+ * - 느린 연결의 큐가 가득 차면 쌓인 이벤트를 버리고 resync 이벤트 하나만 남긴다. (클라이언트는 목록을 다시 조회)
+ * - 전송 한 번이 send-timeout 을 넘기면 (클라이언트가 소켓을 읽지 않아 쓰기가 막힌 경우) 연결을 목록에서 빼서 더 이상 이벤트를 보내지 않는다.
+ *   톰캣의 블로킹 쓰기는 인터럽트에 반응하지 않고, 쓰기가 끝나기 전에는 응답을 종료(complete)할 수도 없다. (같은 락을 기다림)
+ *   -> 막힌 쓰기는 커넥터의 쓰기 제한 시간(server.tomcat.connection-timeout)이 지나면 IOException 으로 끝나고, 그때 전송 스레드가 응답을 종료한다.
+ *   그동안 다른 연결의 전송이 멈추지 않도록 전송 스레드를 늘린다. (최대 max-stalled-threads 개)
+ */
+@Component
+@Slf4j
+public class TodoEventBroadcaster {
+
+    private static final String RESYNC = "resync";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final int senderThreads;
+    private final int maxStalledThreads;
+    // 회원 아이디 -> 연결된 기기들
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    // 지금 전송 중인 연결 (막힌 전송 검사용)
+    private final Set<Subscription> sending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger stalledSends = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+
+    public TodoEventBroadcaster(
+            @Value("${todo.stream.timeout:30m}") Duration timeout,
+            @Value("${todo.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${todo.stream.max-connections-per-user:10}") int maxConnectionsPerUser,
+            @Value("${todo.stream.sender-threads:4}") int senderThreads,
+            @Value("${todo.stream.send-timeout:10s}") Duration sendTimeout,
+            @Value("${todo.stream.max-stalled-threads:16}") int maxStalledThreads,
+            MeterRegistry meterRegistry
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.queueCapacity = queueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.senderThreads = senderThreads;
+        this.maxStalledThreads = maxStalledThreads;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "todo-sse-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("todo.stream.connections", connectionCount, AtomicInteger::get)
+                .description("할 일 변경 구독(SSE) 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.stream.stalled.sends", stalledSends, AtomicInteger::get)
+                .description("전송이 막혀서 목록에서 뺀 연결 중 아직 쓰기가 끝나지 않은 수")
+                .register(meterRegistry);
+    }
+
+    // 새 기기 연결
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(userId, emitter);
+        // 연결 해제(remove)와 겹치지 않도록 회원별 목록 변경은 compute 안에서 처리
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            if (userSubscriptions == null) userSubscriptions = ConcurrentHashMap.newKeySet();
+            if (userSubscriptions.size() >= maxConnectionsPerUser) {
+                throw new TooManyConnectionsException("동시에 연결할 수 있는 기기 수를 초과했습니다.");
+            }
+            userSubscriptions.add(subscription);
+            return userSubscriptions;
+        });
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        // 연결 직후 응답 헤더를 바로 보내도록 첫 이벤트 전송
+        enqueue(subscription, new Message("connected", userId));
+        return emitter;
+    }
+
+    // 트랜잭션이 커밋된 뒤에만 전송 (롤백된 변경은 알리지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        Set<Subscription> userSubscriptions = subscriptions.get(event.userId());
+        if (userSubscriptions == null) return;
+        Message message = new Message(event.type().name().toLowerCase(), event);
+        userSubscriptions.forEach(subscription -> enqueue(subscription, message));
+    }
+
+    // 프록시, 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송 + 끊어진 연결 정리
+    @Scheduled(fixedDelayString = "${todo.stream.heartbeat-interval:30s}")
+    public void heartbeat() {
+        Message heartbeat = new Message(HEARTBEAT, null);
+        subscriptions.values().forEach(userSubscriptions ->
+                userSubscriptions.forEach(subscription -> enqueue(subscription, heartbeat)));
+    }
+
+    // 전송 한 번이 send-timeout 을 넘긴 연결을 목록에서 빼고, 막힌 쓰기가 끝날 때까지 쓸 전송 스레드를 하나 더 늘린다.
+    // 여기서 응답을 종료하면 쓰기가 끝날 때까지 스케줄러 스레드가 함께 막히므로, 종료는 전송 스레드에 맡긴다. (sendWithDeadline)
+    @Scheduled(fixedDelayString = "${todo.stream.send-check-interval:1s}")
+    public void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscription subscription : sending) {
+            boolean stalled;
+            synchronized (subscription) {
+                stalled = subscription.sendingThread != null
+                        && !subscription.stalled
+                        && now - subscription.sendStartedNanos > sendTimeoutNanos;
+                if (stalled) {
+                    subscription.stalled = true;
+                    growSender();
+                }
+            }
+            if (stalled) {
+                log.info("SSE 전송이 {}ms 이상 막혀서 연결 종료 - userId: {}",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos), subscription.userId);
+                detach(subscription);
+            }
+        }
+    }
+
+    private void enqueue(Subscription subscription, Message message) {
+        synchronized (subscription.queue) {
+            if (subscription.queue.size() >= queueCapacity) {
+                // 따라오지 못하는 연결 -> 쌓인 이벤트 대신 다시 조회하라는 이벤트 하나만 보낸다.
+                subscription.queue.clear();
+                subscription.queue.add(new Message(RESYNC, null));
+            } else if (!HEARTBEAT.equals(message.name()) || subscription.queue.isEmpty()) {
+                subscription.queue.add(message);
+            }
+        }
+        drain(subscription);
+    }
+
+    // 연결마다 전송 작업은 하나만 실행 (이벤트 순서 보장)
+    private void drain(Subscription subscription) {
+        if (!subscription.draining.compareAndSet(false, true)) return;
+        sender.execute(() -> {
+            try {
+                Message message;
+                while (!subscription.removed.get() && (message = poll(subscription)) != null) {
+                    sendWithDeadline(subscription, message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊은 경우
+                log.debug("SSE 전송 실패, 연결 종료 - userId: {}", subscription.userId);
+                remove(subscription, null);
+                return;
+            } finally {
+                subscription.draining.set(false);
+            }
+            // 전송을 마치는 사이에 들어온 이벤트가 있다면 다시 전송
+            synchronized (subscription.queue) {
+                if (subscription.removed.get() || subscription.queue.isEmpty()) return;
+            }
+            drain(subscription);
+        });
+    }
+
+    private Message poll(Subscription subscription) {
+        synchronized (subscription.queue) {
+            return subscription.queue.poll();
+        }
+    }
+
+    // 전송 시작 시각을 기록해 두고 checkStalledSends 가 제한 시간을 검사
+    // 막혔던 전송은 쓰기가 끝나면 (성공이든 커넥터 제한 시간으로 인한 실패든) 여기서 응답을 종료한다.
+    private void sendWithDeadline(Subscription subscription, Message message) throws IOException {
+        synchronized (subscription) {
+            subscription.sendStartedNanos = System.nanoTime();
+            subscription.sendingThread = Thread.currentThread();
+        }
+        sending.add(subscription);
+        try {
+            send(subscription, message);
+        } finally {
+            sending.remove(subscription);
+            boolean stalled;
+            synchronized (subscription) {
+                subscription.sendingThread = null;
+                stalled = subscription.stalled;
+                if (stalled) {
+                    // 막혔던 쓰기가 끝났으므로 늘렸던 전송 스레드를 되돌린다.
+                    subscription.stalled = false;
+                    shrinkSender();
+                }
+            }
+            if (stalled) {
+                subscription.emitter.completeWithError(new TimeoutException("SSE send timeout"));
+            }
+        }
+    }
+
+    private static void send(Subscription subscription, Message message) throws IOException {
+        if (HEARTBEAT.equals(message.name())) {
+            subscription.emitter.send(SseEmitter.event().comment(HEARTBEAT));
+            return;
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.name());
+        if (message.data() != null) event.data(message.data());
+        else event.data("");
+        subscription.emitter.send(event);
+    }
+
+    private void remove(Subscription subscription) {
+        remove(subscription, null);
+    }
+
+    private void remove(Subscription subscription, Throwable error) {
+        if (!detach(subscription)) return;
+        if (error != null) subscription.emitter.completeWithError(error);
+        else subscription.emitter.complete();
+    }
+
+    // 더 이상 이벤트를 받지 않도록 목록에서 빼고 연결 수를 줄인다. -> 처음 뺀 경우에만 true
+    private boolean detach(Subscription subscription) {
+        if (!subscription.removed.compareAndSet(false, true)) return false;
+        connectionCount.decrementAndGet();
+        subscriptions.computeIfPresent(subscription.userId, (userId, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+        synchronized (subscription.queue) {
+            subscription.queue.clear();
+        }
+        return true;
+    }
+
+    // 최대 크기를 먼저 늘리고 기본 크기를 늘린다. (기본 크기 > 최대 크기이면 예외)
+    // 막힌 쓰기가 max-stalled-threads 개를 넘으면 더 늘리지 않는다. (막힌 쓰기는 커넥터 제한 시간 안에 끝나므로 그동안만 전송이 느려짐)
+    private synchronized void growSender() {
+        int size = senderThreads + Math.min(stalledSends.incrementAndGet(), maxStalledThreads);
+        sender.setMaximumPoolSize(size);
+        sender.setCorePoolSize(size);
+    }
+
+    private synchronized void shrinkSender() {
+        int size = senderThreads + Math.min(stalledSends.decrementAndGet(), maxStalledThreads);
+        sender.setCorePoolSize(size);
+        sender.setMaximumPoolSize(size);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private record Message(String name, Object data) {
+    }
+
+    private static class Subscription {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<Message> queue = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        // 아래 필드는 synchronized (subscription) 안에서만 변경
+        private volatile long sendStartedNanos;
+        private volatile Thread sendingThread;
+        private boolean stalled;
+
+        private Subscription(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.todo.todoapi.repository;
 
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
 import com.example.todo.todoapi.entity.Todo;
 import com.example.todo.userapi.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, String> {
 
@@ -15,8 +21,45 @@ public interface TodoRepository extends JpaRepository<Todo, String> {
     @Query("SELECT t FROM Todo t WHERE t.user = :user")
     List<Todo> findAllByUser(@Param("user") User user);
 
+    // 회원 엔터티를 조회하지 않고 아이디로 할 일 목록 리턴
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId")
+    List<Todo> findAllByUserId(@Param("userId") String userId);
+
+    // 목록이 아주 큰 경우를 위한 스트리밍 조회
+    // - DTO 로 바로 조회하므로 엔터티가 영속성 컨텍스트에 쌓이지 않음
+    // - MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 가져온다.
+    // 스트림을 다 쓸 때까지 커넥션을 사용하므로 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.example.todo.todoapi.dto.response.TodoDetailResponseDTO(t.todoId, t.title, t.done, t.version) " +
+            "FROM Todo t WHERE t.user.id = :userId")
+    Stream<TodoDetailResponseDTO> streamAllByUserId(@Param("userId") String userId);
+
     // 회원이 작성한 일정의 개수를 리턴
     @Query("SELECT COUNT(*) FROM Todo t WHERE t.user = :user")
     int countByUser(@Param("user") User user);
 
+    // 할 일 완료 여부를 엔터티 조회 없이 UPDATE 한 번으로 변경 (작성자 본인의 할 일만 변경됨)
+    // version 을 전달하면 해당 버전일 때만 변경 -> 변경된 행의 개수를 리턴
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.done = :done, t.version = t.version + 1 " +
+            "WHERE t.todoId = :todoId AND t.user.id = :userId " +
+            "AND (:version IS NULL OR t.version = :version)")
+    int updateDone(@Param("todoId") String todoId,
+                   @Param("userId") String userId,
+                   @Param("done") boolean done,
+                   @Param("version") Long version);
+
+    // 작성자 본인의 할 일을 조회 없이 DELETE 한 번으로 삭제 -> 삭제된 행의 개수를 리턴
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.todoId = :todoId AND t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("todoId") String todoId, @Param("userId") String userId);
+
+    // 특정 회원의 완료된 할 일을 한 번에 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.user.id = :userId AND t.done = true")
+    int deleteDoneByUserId(@Param("userId") String userId);
+
+    // 특정 회원의 할 일이 존재하는지 확인
+    boolean existsByTodoIdAndUserId(String todoId, String userId);
+
 }
@@ -1,48 +1,89 @@
 package com.example.todo.todoapi.service;
 
+import com.example.todo.concurrent.SingleFlight;
+import com.example.todo.exception.TodoNotFoundException;
 import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
 import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
 import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
 import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
 import com.example.todo.todoapi.entity.Todo;
+import com.example.todo.todoapi.event.TodoChangedEvent;
 import com.example.todo.todoapi.repository.TodoRepository;
 import com.example.todo.userapi.entity.Role;
 import com.example.todo.userapi.entity.User;
 import com.example.todo.userapi.repository.UserRepository;
+import com.example.todo.userapi.service.UserSnapshotCache;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
+// 기본은 읽기 전용 트랜잭션 (flush, 더티 체킹 생략) -> 쓰기가 필요한 메서드만 따로 지정
+@Transactional(readOnly = true)
+@Observed(name = "todo.service")
 public class TodoService {
 
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ObjectMapper objectMapper;
+    // 변경 이벤트 -> 커밋 후 TodoEventBroadcaster 가 같은 회원의 다른 기기로 푸시
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    // 회원별로 진행 중인 목록 조회 (여러 기기에서 동시에 열거나 클라이언트가 중복 요청한 경우 한 번만 조회)
+    private final SingleFlight<String, TodoListResponseDTO> listLoads = new SingleFlight<>();
+    // findAllShared 의 조회용 읽기 전용 트랜잭션 (this.findAll 은 프록시를 거치지 않으므로 직접 시작)
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
+    @Transactional
     public TodoListResponseDTO create(
             final TodoCreateRequestDTO requestDTO,
             final String userId) {
 
         // 이제는 할 일 등록은 회원만 할 수 있도록 셋팅하기 때문에
-        // toEntity 의 매개값으로 User 엔터티도 함께 전달해야 합니다. -> userId로 회원 엔터티를 조회헤야함.
-        User user = getUser(userId);
+        // toEntity 의 매개값으로 User 엔터티도 함께 전달해야 합니다.
+        // -> 외래키만 필요하므로 조회 없이 아이디만 가진 참조 객체를 사용
+        User user = userRepository.getReferenceById(userId);
 
-        // 권한에 따른 글쓰기 제한 처리
+        // 권한에 따른 글쓰기 제한 처리 (등급은 최신 값이 필요하므로 짧게 캐시된 값을 사용)
         // 일반 회원이 일정을 5개 초과해서 작성하면 예외를 발생.
-        if (user.getRole() == Role.COMMON && todoRepository.countByUser(user) >= 5) {
+        Role role = userSnapshotCache.get(userId).role();
+        if (role == Role.COMMON && todoRepository.countByUser(user) >= 5) {
             throw new IllegalArgumentException("일반회원은 5개까지만 등록 가능합니다.");
         }
 
-        todoRepository.save(requestDTO.toEntity(user));
-        log.info("할 일 저장완료! 제목: {}", requestDTO.getTitle());
+        Todo saved = todoRepository.save(requestDTO.toEntity(user));
+        log.debug("할 일 저장완료! 제목: {}", requestDTO.getTitle());
+        eventPublisher.publishEvent(TodoChangedEvent.created(userId, new TodoDetailResponseDTO(saved)));
         // 할 일 저장이 끝나면 목록을 불러오는데, 지금까지는 그낭 전부 다 같고 왔어도 된다.
         // 이제는 회원별로 할 일을 등록하기 때문에, 방금 할일을 추가한 그 회원의 목록을 가져와야한다.
         return findAll(userId);
@@ -52,10 +93,8 @@ public class TodoService {
 
     // 할 일 목록 가져오기
     public TodoListResponseDTO findAll(String userId) {
-        // 로그인 한 유저의 정보를 데이터베이스에서 조회
-        User user = getUser(userId);
-
-        List<Todo> entityList = todoRepository.findAllByUser(user);
+        // 토큰에서 꺼낸 아이디로 바로 조회 (회원 정보를 따로 조회하지 않음)
+        List<Todo> entityList = todoRepository.findAllByUserId(userId);
 
         List<TodoDetailResponseDTO> dtoList = entityList.stream()
                 //.map(entity -> new TodoDetailResponseDTO(entity))
@@ -68,39 +107,98 @@ public class TodoService {
 
     }
 
-    public TodoListResponseDTO delete(final String todoId, String userId) { // 서비스 단에서 매개변수 값 변경 못하도록 final 선언(엄격하게 하려면~)
-
-
-        todoRepository.findById(todoId).orElseThrow(
-                () -> {
-                    log.error("id가 존재하지 않아 삭제에 실패했습니다 - ID: {}", todoId);
-                    throw new RuntimeException("id가 존재하지 않아 삭제에 실패 했습니다.");
-                }
-        );
-        todoRepository.deleteById(todoId);
+    /**
+     * 할 일 목록 요청 (GET /api/todos)
+     * 같은 회원의 조회가 동시에 여러 번 들어오면 DB 조회 한 번의 결과를 함께 사용한다.
+     * 기다리는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 합치고, 조회만 읽기 전용 트랜잭션으로 실행.
+     * (findAllByUserId 는 직접 선언한 쿼리라서 리포지토리의 기본 트랜잭션이 없음
+     *  -> TransactionTemplate 로 읽기 전용 트랜잭션을 열어야 복제 DB 라우팅이 적용된다.)
+     * (쓰기 후의 목록 응답은 쓰기 트랜잭션 안에서 findAll 을 직접 호출하므로 합치지 않는다.)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoListResponseDTO findAllShared(String userId) {
+        return listLoads.execute(userId, () -> readOnlyTransaction.execute(status -> findAll(userId)));
+    }
 
+    // 변경이 커밋되면 진행 중인 조회를 분리 -> 쓰기 응답을 받은 뒤의 조회는 변경된 목록을 새로 읽는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTodoChanged(TodoChangedEvent event) {
+        listLoads.forget(event.userId());
+    }
 
-        return findAll(userId);
+    /**
+     * 할 일 목록을 한 건씩 읽어서 바로 JSON 으로 써 준다. (목록 전체를 메모리에 올리지 않음)
+     * 응답 형태는 findAll 의 TodoListResponseDTO 와 같다. -> {"error":null,"todos":[...]}
+     * 한 건 쓸 때마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE 를 끈 writer 를 사용 (버퍼가 찰 때만 소켓에 씀)
+     *
+     * @param out - 응답 스트림 (닫지 않음)
+     */
+    public void writeAll(String userId, OutputStream out) throws IOException {
+        try (Stream<TodoDetailResponseDTO> todos = todoRepository.streamAllByUserId(userId);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNullField("error");
+            generator.writeArrayFieldStart("todos");
+            ObjectWriter rowWriter = objectMapper.writerFor(TodoDetailResponseDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            Iterator<TodoDetailResponseDTO> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeValue(generator, iterator.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
-    public TodoListResponseDTO update(final TodoModifyRequestDTO requestDTO, String userId) {
-        Optional<Todo> targetEntity = todoRepository.findById(requestDTO.getId());
+    @Transactional
+    public TodoListResponseDTO delete(final String todoId, String userId) { // 서비스 단에서 매개변수 값 변경 못하도록 final 선언(엄격하게 하려면~)
 
-        targetEntity.ifPresent(todo -> {   // 해당 아이디에 맞는 엔터티가 존재한다면
-            todo.setDone(requestDTO.isDone()); //  done값을 넣어주고
+        // 조회 후 삭제하지 않고, 작성자 조건을 포함한 DELETE 문 한 번으로 처리
+        int deleted = todoRepository.deleteByIdAndUserId(todoId, userId);
+        if (deleted == 0) {
+            log.error("id가 존재하지 않아 삭제에 실패했습니다 - ID: {}", todoId);
+            throw new TodoNotFoundException("id가 존재하지 않아 삭제에 실패 했습니다.");
+        }
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(userId, todoId));
 
-            todoRepository.save(todo);
+        return findAll(userId);
+    }
 
-        });
+    // 완료된 할 일 일괄 삭제
+    @Transactional
+    public TodoListResponseDTO deleteDone(String userId) {
+        int deleted = todoRepository.deleteDoneByUserId(userId);
+        log.debug("완료된 할 일 {}개 삭제 완료!", deleted);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(TodoChangedEvent.doneCleared(userId));
+        }
         return findAll(userId);
     }
 
-    // 유저 아이디 조회 추출한 메서드
-    private User getUser(String userId) {
-        User user = userRepository.findById(userId).orElseThrow(
-                () -> new RuntimeException("회원 정보가 없습니다.")
-        );
-        return user;
+    @Transactional
+    public TodoListResponseDTO update(final TodoModifyRequestDTO requestDTO, String userId) {
+        // 엔터티를 조회해서 더티 체킹하는 대신, 작성자 조건을 포함한 UPDATE 문 한 번으로 처리
+        int updated = todoRepository.updateDone(
+                requestDTO.getId(), userId, requestDTO.isDone(), requestDTO.getVersion());
+
+        if (updated == 0) {
+            // 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회 (버전 충돌인지, 없는 할 일인지)
+            if (requestDTO.getVersion() != null
+                    && todoRepository.existsByTodoIdAndUserId(requestDTO.getId(), userId)) {
+                throw new ObjectOptimisticLockingFailureException(Todo.class, requestDTO.getId());
+            }
+            log.warn("수정할 할 일이 존재하지 않습니다 - ID: {}", requestDTO.getId());
+            throw new TodoNotFoundException("수정할 할 일이 존재하지 않습니다.");
+        }
+        TodoListResponseDTO responseDTO = findAll(userId);
+        // 응답용으로 조회한 목록에서 변경된 할 일을 찾아서 이벤트로 전달 (추가 조회 없음)
+        responseDTO.getTodos().stream()
+                .filter(todo -> todo.getId().equals(requestDTO.getId()))
+                .findFirst()
+                .ifPresent(todo -> eventPublisher.publishEvent(TodoChangedEvent.updated(userId, todo)));
+        return responseDTO;
     }
 }
 
@@ -19,11 +19,14 @@ import org.springframework.validation.FieldError;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 
+import static com.example.todo.config.logging.LogMarkers.REQUEST;
+
 @RestController
 @Slf4j
 @RequiredArgsConstructor
@@ -40,7 +43,7 @@ public class UserController {
                     .body("이메일이 없습니다.");
         }
         boolean resultFlag = userService.isDuplicate(email);
-        log.info("중복??? - {}", resultFlag);
+        log.debug("중복??? - {}", resultFlag);
         return ResponseEntity.ok().body(resultFlag);
     }
     // 회원 가입 요청 처리
@@ -51,13 +54,14 @@ public class UserController {
             @RequestPart(value = "profileImage", required = false) MultipartFile profileImage,
             BindingResult result
     ) {
-        log.info("/api/auth POST! - {}", dto);
+        // dto 에는 비밀번호가 들어있으므로 로그에 남기지 않는다.
+        log.info(REQUEST, "/api/auth POST!");
         ResponseEntity<FieldError> resultEntity = getFieldErrorResponseEntity(result);
         if (resultEntity != null) return resultEntity;
         try {
             String uploadedFilePath = null;
             if (profileImage != null) {
-                log.info("attached file name: {}", profileImage.getOriginalFilename());
+                log.debug("attached file name: {}", profileImage.getOriginalFilename());
                 // 전달받은 프로필 이미지를 먼저 지정된 경로에 저장한 후 저장 경로를 DB에 세팅하자.
                 uploadedFilePath = userService.uploadProfileImage(profileImage);
             }
@@ -77,7 +81,7 @@ public class UserController {
             @Validated @RequestBody LoginRequestDTO dto,
             BindingResult result
     ) {
-        log.info("/api/auth/signin - POST - {}", dto);
+        log.info(REQUEST, "/api/auth/signin - POST");
         ResponseEntity<FieldError> response = getFieldErrorResponseEntity(result);
         if (response != null) return response;
         LoginResponseDTO responseDTO = userService.authenticate(dto);
@@ -91,7 +95,7 @@ public class UserController {
     public ResponseEntity<?> promote(
             @AuthenticationPrincipal TokenUserInfo userInfo
     ) {
-        log.info("/api/auth/promote - PUT!");
+        log.info(REQUEST, "/api/auth/promote - PUT!");
         LoginResponseDTO responseDTO = userService.promoteToPremium(userInfo);
         return ResponseEntity.ok().body(responseDTO);
     }
@@ -102,8 +106,12 @@ public class UserController {
     ) {
         try {
             // 1. 프로필 사진의 경로부터 얻어야 한다.
-            String filePath = userService.findProfilePath(userInfo.getUserId());
-            log.info("filePath: {}", filePath);
+            String filePath = userService.findProfilePath(userInfo);
+            log.debug("filePath: {}", filePath);
+            // 프로필 사진을 등록하지 않은 회원
+            if (filePath == null) {
+                return ResponseEntity.notFound().build();
+            }
             // 2. 얻어낸 파일 경로를 통해 실제 파일 데이터를 로드하기.
             File profileFile = new File(filePath);
             // 모든 사용자가 프로필 사진을 가지는 것은 아니다. -> 프사를 등록하지 않은 사람은 해당 경로가 존재하지 않을 것.
@@ -133,26 +141,28 @@ public class UserController {
             throw new RuntimeException(e);
         }
     }
+    // 카카오 서버 응답을 기다리는 동안 요청 스레드를 반납 (Mono 가 완료되면 응답)
     @GetMapping("/kakaologin")
-    public ResponseEntity<?> kakaoLogin(String code) {
-        log.info("/api/auth/kakaoLogin - GET! code: {}", code);
-        LoginResponseDTO responseDTO = userService.kakaoService(code);
-        return ResponseEntity.ok().body(responseDTO);
+    public Mono<ResponseEntity<LoginResponseDTO>> kakaoLogin(String code) {
+        log.info(REQUEST, "/api/auth/kakaoLogin - GET!");
+        return userService.kakaoService(code)
+                .map(responseDTO -> ResponseEntity.ok().body(responseDTO));
     }
     // 로그아웃 처리
     @GetMapping("/logout")
-    public ResponseEntity<?> logout(
+    public Mono<ResponseEntity<String>> logout(
             @AuthenticationPrincipal TokenUserInfo userInfo
     ) {
-        log.info("/api/auth/logout - GET! - user: {}", userInfo.getEmail());
-        String result = userService.logout(userInfo);
-        return ResponseEntity.ok().body(result);
+        log.info(REQUEST, "/api/auth/logout - GET!");
+        return userService.logout(userInfo)
+                .map(result -> ResponseEntity.ok().body(result))
+                .defaultIfEmpty(ResponseEntity.ok().build());
     }
 
     // 리프레쉬 토큰을 활용한 액세스 토큰 재발급 요청
     @PostMapping("/refresh")
     public ResponseEntity<?> refresh(@RequestBody Map<String, String> tokenRequest) {
-        log.info("/api/auth/refresh: POST! - tokenRequest: {}", tokenRequest);
+        log.info(REQUEST, "/api/auth/refresh: POST!");
         String renewalAccessToken = userService.renewalAccessToken(tokenRequest);
         if (renewalAccessToken != null) {
             return ResponseEntity.ok().body(Map.of("accessToken", renewalAccessToken));
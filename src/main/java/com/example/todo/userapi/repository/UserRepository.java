@@ -2,9 +2,12 @@ package com.example.todo.userapi.repository;
 
 import com.example.todo.userapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -25,6 +28,40 @@ public interface UserRepository extends JpaRepository<User, String> {
     // 리프레시 토큰으로 사용자 정보 조회하기
     Optional<User> findByRefreshToken(String refreshToken);
 
+    // 카카오 로그인 회원 저장 (처음이면 INSERT, 이미 가입했다면 카카오 access token 만 UPDATE)
+    // 중복 검사 -> 저장 -> 재조회로 나뉘어 있던 쿼리를 한 문장으로 처리
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO tbl_user (user_id, email, password, user_name, join_date, role, profile_img, access_token) "
+            + "VALUES (:id, :email, :password, :userName, NOW(6), 'COMMON', :profileImg, :accessToken) "
+            + "ON DUPLICATE KEY UPDATE access_token = VALUES(access_token)", nativeQuery = true)
+    int upsertKakaoUser(@Param("id") String id,
+                        @Param("email") String email,
+                        @Param("password") String password,
+                        @Param("userName") String userName,
+                        @Param("profileImg") String profileImg,
+                        @Param("accessToken") String accessToken);
+
+    // 로그인 시 발급한 리프레시 토큰 저장 (회원 정보를 다시 조회하지 않고 UPDATE 한 번으로 처리)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.refreshToken = :refreshToken, u.refreshTokenExpiryDate = :expiryDate WHERE u.id = :userId")
+    int updateRefreshToken(@Param("userId") String userId,
+                           @Param("refreshToken") String refreshToken,
+                           @Param("expiryDate") Date expiryDate);
+
+    // 카카오 로그아웃 후 저장해 둔 카카오 access token 삭제
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.accessToken = null WHERE u.id = :userId")
+    int clearAccessToken(@Param("userId") String userId);
+
+    // 로그아웃 시 리프레시 토큰 삭제 -> 더 이상 액세스 토큰을 재발급 받을 수 없음
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.refreshToken = null, u.refreshTokenExpiryDate = null WHERE u.id = :userId")
+    int clearRefreshToken(@Param("userId") String userId);
+
 }
 
 
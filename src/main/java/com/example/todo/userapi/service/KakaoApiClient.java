@@ -0,0 +1,133 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.config.KakaoClientProperties;
+import com.example.todo.userapi.dto.response.KakaoUserDTO;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 카카오 서버와 통신하는 클라이언트
+ * 논블로킹 WebClient 를 사용하므로 카카오 응답을 기다리는 동안 요청 스레드나 DB 커넥션을 붙잡지 않습니다.
+ * 모든 호출은 타임아웃, 벌크헤드, 서킷 브레이커를 거치므로 카카오 장애 시에는 기다리지 않고 바로 실패합니다.
+ */
+@Component
+@Slf4j
+public class KakaoApiClient {
+
+    private final WebClient authClient; // 토큰 발급 (kauth.kakao.com)
+    private final WebClient apiClient;  // 사용자 정보, 로그아웃 (kapi.kakao.com)
+    private final Duration responseTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final String clientId;
+    private final String redirectUrl;
+    private final String clientSecret;
+
+    public KakaoApiClient(
+            WebClient.Builder webClientBuilder,
+            KakaoClientProperties properties,
+            CircuitBreaker kakaoCircuitBreaker,
+            Bulkhead kakaoBulkhead,
+            Retry kakaoRetry,
+            @Value("${kakao.client_id}") String clientId,
+            @Value("${kakao.redirect_url}") String redirectUrl,
+            @Value("${kakao.client_secret}") String clientSecret
+    ) {
+        // 연결, 응답 타임아웃이 없으면 카카오가 느릴 때 요청이 끝없이 쌓인다.
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        this.authClient = builder.clone().baseUrl(properties.getAuthUri()).build();
+        this.apiClient = builder.clone().baseUrl(properties.getApiUri()).build();
+        this.responseTimeout = properties.getResponseTimeout();
+        this.circuitBreaker = kakaoCircuitBreaker;
+        this.bulkhead = kakaoBulkhead;
+        this.retry = kakaoRetry;
+        this.clientId = clientId;
+        this.redirectUrl = redirectUrl;
+        this.clientSecret = clientSecret;
+    }
+
+    // 인가 코드를 통해 카카오 access token 발급받기
+    public Mono<String> getAccessToken(String code) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code"); // 카카오 공식 문서 기준 값으로 세팅
+        params.add("client_id", clientId); // 카카오 디벨로퍼 REST API 키
+        params.add("redirect_uri", redirectUrl); // 카카오 디벨로퍼 등록된 redirect uri
+        params.add("code", code); // 프론트에서 인가 코드 요청시 전달받은 코드값
+        params.add("client_secret", clientSecret); // 카카오 디벨로퍼 client secret(활성화 시 추가해 줘야 함)
+        /*
+        {
+            "token_type":"bearer",
+            "access_token":"${ACCESS_TOKEN}",
+            "expires_in":43199,
+            "refresh_token":"${REFRESH_TOKEN}",
+            ...
+        }
+         */
+        return authClient.post()
+                .uri("/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(params))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                // 인가 코드는 한 번만 사용할 수 있으므로 토큰 발급은 재시도하지 않는다.
+                .transformDeferred(this::protect)
+                // 여러가지 데이터 중 access_token이라는 이름의 데이터만 사용
+                .map(responseData -> (String) responseData.get("access_token"));
+    }
+
+    // 카카오 access token 으로 사용자 정보 가져오기
+    public Mono<KakaoUserDTO> getUserInfo(String accessToken) {
+        return apiClient.get()
+                .uri("/v2/user/me")
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(KakaoUserDTO.class)
+                .transformDeferred(this::protect)
+                .transformDeferred(RetryOperator.of(retry));
+    }
+
+    // 카카오 로그아웃
+    public Mono<String> logout(String accessToken) {
+        return apiClient.post()
+                .uri("/v1/user/logout")
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(String.class)
+                .transformDeferred(this::protect)
+                .transformDeferred(RetryOperator.of(retry));
+    }
+
+    // 타임아웃 -> 벌크헤드 -> 서킷 브레이커 순서로 감싼다.
+    // 서킷이 열려 있거나 동시 요청 수를 넘으면 카카오로 요청을 보내지 않고 바로 실패.
+    private <T> Mono<T> protect(Mono<T> call) {
+        return call
+                .timeout(responseTimeout)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+}
@@ -1,29 +1,28 @@
 package com.example.todo.userapi.service;
+import com.example.todo.auth.LoginProvider;
 import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenRevocationList;
 import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.config.datasource.ReadYourWritesContext;
 import com.example.todo.exception.NoRegisteredArgumentException;
 import com.example.todo.userapi.dto.request.LoginRequestDTO;
 import com.example.todo.userapi.dto.request.UserSignUpRequestDTO;
-import com.example.todo.userapi.dto.response.KakaoUserDTO;
 import com.example.todo.userapi.dto.response.LoginResponseDTO;
 import com.example.todo.userapi.dto.response.UserSignUpResponseDTO;
 import com.example.todo.userapi.entity.Role;
 import com.example.todo.userapi.entity.User;
 import com.example.todo.userapi.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.io.IOException;
@@ -34,17 +33,16 @@ import java.util.UUID;
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
+// 기본은 읽기 전용 트랜잭션 (flush, 더티 체킹 생략) -> 쓰기가 필요한 메서드만 따로 지정
+@Transactional(readOnly = true)
+@Observed(name = "user.service")
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
-    @Value("${kakao.client_id}")
-    private String KAKAO_CLIENT_ID;
-    @Value("${kakao.redirect_url}")
-    private String KAKAO_REDIRECT_URL;
-    @Value("${kakao.client_secret}")
-    private String KAKAO_CLIENT_SECRET;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final KakaoApiClient kakaoApiClient;
     @Value("${upload.path}")
     private String uploadRootPath;
     public boolean isDuplicate(String email) {
@@ -53,6 +51,8 @@ public class UserService {
             return true;
         } else return false;
     }
+    // 비밀번호 암호화(BCrypt)는 오래 걸리므로 트랜잭션 밖에서 처리하고, 저장만 짧은 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserSignUpResponseDTO create(
             final UserSignUpRequestDTO dto, final String uploadedFilePath) {
         String email = dto.getEmail();
@@ -64,9 +64,12 @@ public class UserService {
         dto.setPassword(encoded);
         // dto를 User Entity로 변환해서 저장.
         User saved = userRepository.save(dto.toEntity(uploadedFilePath));
-        log.info("회원 가입 정상 수행됨! - saved user - {}", saved);
+        log.info("회원 가입 정상 수행됨! - email: {}", saved.getEmail());
         return new UserSignUpResponseDTO(saved);
     }
+    // 조회 -> 비밀번호 검증(BCrypt) -> 리프레시 토큰 저장을 각각 짧게 실행해서
+    // 비밀번호를 검증하는 동안 DB 커넥션을 붙잡지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponseDTO authenticate(final LoginRequestDTO dto) {
         // 이메일을 통해 회원 정보 조회
         User user = userRepository.findByEmail(dto.getEmail())
@@ -77,7 +80,7 @@ public class UserService {
         if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
             throw new RuntimeException("비밀번호가 틀렸습니다.");
         }
-        log.info("{}님 로그인 성공!", user.getUserName());
+        log.debug("{}님 로그인 성공!", user.getUserName());
         // 로그인 성공 후에 클라이언트에게 뭘 리턴해 줄 것인가?
         // -> JWT를 클라이언트에 발급해 주어야 한다! -> 로그인 유지를 위해!
         Map<String, String> token = getTokenMap(user);
@@ -86,21 +89,24 @@ public class UserService {
         // 데이터베이스에 저장해 놓고, 새로운 액세스 토큰 요청 때마다 만료일을 조회해서 비교.
         user.changeRefreshToken(token.get("refresh_token"));
         user.changeRefreshExpiryDate(tokenProvider.getExpiryDate(token.get("refresh_token")));
-        userRepository.save(user);
+        userRepository.updateRefreshToken(user.getId(), user.getRefreshToken(), user.getRefreshTokenExpiryDate());
 
         return new LoginResponseDTO(user, token);
 
     }
+    @Transactional
     public LoginResponseDTO promoteToPremium(TokenUserInfo userInfo) {
-        User user = userRepository.findById(userInfo.getUserId())
-                .orElseThrow(() -> new NoRegisteredArgumentException("회원 조회에 실패했습니다."));
-        // 일반(COMMON) 회원이 아니라면 예외 발생
+        // 일반(COMMON) 회원이 아니라면 예외 발생 -> 토큰의 등급으로 판단해서 DB 조회 전에 거른다.
         if (userInfo.getRole() != Role.COMMON) {
             throw new IllegalArgumentException("일반 회원이 아니라면 등급을 상승시킬 수 없습니다.");
         }
+        User user = userRepository.findById(userInfo.getUserId())
+                .orElseThrow(() -> new NoRegisteredArgumentException("회원 조회에 실패했습니다."));
         // 등급 변경
         user.changeRole(Role.PREMIUM);
         User saved = userRepository.save(user);
+        // 캐시해 둔 등급을 지워서 바로 반영되도록 (변경이 커밋된 뒤에 지움)
+        userSnapshotCache.evictAfterCommit(user.getId());
         // 토큰을 재발급! (새롭게 변경된 정보가 반영된)
         Map<String, String> token = getTokenMap(user);
         return new LoginResponseDTO(saved, token);
@@ -120,6 +126,8 @@ public class UserService {
      * @param profileImage - 업로드 된 파일 정보
      * @return 실제로 저장된 이미지 경로
      */
+    // 파일 저장은 DB와 관계가 없으므로 트랜잭션을 열지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String uploadProfileImage(MultipartFile profileImage) throws IOException {
         // 루트 디렉토리가 실존하는 지 확인 후 존재하지 않으면 생성.
         File rootDir = new File(uploadRootPath);
@@ -133,118 +141,83 @@ public class UserService {
         profileImage.transferTo(uploadFile);
         return uniqueFileName;
     }
-    public String findProfilePath(String userId) {
-        User user
-                = userRepository.findById(userId).orElseThrow(() -> new RuntimeException());
-        String profileImg = user.getProfileImg();
+    public String findProfilePath(TokenUserInfo userInfo) {
+        // 토큰에 프로필 경로가 들어있다면 DB를 조회하지 않는다. (이전에 발급된 토큰이라면 DB 조회)
+        String profileImg = userInfo.getProfileImg();
+        if (profileImg == null) {
+            User user = userRepository.findById(userInfo.getUserId())
+                    .orElseThrow(() -> new RuntimeException());
+            profileImg = user.getProfileImg();
+        }
+        // 프로필 사진을 등록하지 않은 회원
+        if (profileImg == null || profileImg.isEmpty()) {
+            return null;
+        }
         if (profileImg.startsWith("http://")) {
             return profileImg;
         }
         // DB에는 파일명만 저장. -> service가 가지고 있는 Root Path와 연결해서 리턴
         return uploadRootPath + "/" + profileImg;
     }
-    public LoginResponseDTO kakaoService(String code) {
-        // 인가 코드를 통해 토큰을 발급받기
-        String accessToken = getKakaoAccessToken(code);
-        log.info("token: {}", accessToken);
+    /*
+     * 카카오 로그인
+     * 카카오 서버와의 통신은 트랜잭션 밖에서 논블로킹으로 처리하고,
+     * 응답을 모두 받은 뒤에 짧은 쿼리만 실행해서 카카오 응답을 기다리는 동안 DB 커넥션을 붙잡지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<LoginResponseDTO> kakaoService(String code) {
+        // 인가 코드를 통해 토큰을 발급받고 -> 토큰을 통해 사용자 정보를 가져오기
+        return kakaoApiClient.getAccessToken(code)
+                .flatMap(accessToken -> kakaoApiClient.getUserInfo(accessToken)
+                        .map(userDTO -> userDTO.toEntity(accessToken)))
+                // 여기부터는 DB 작업 -> 네트워크 스레드를 막지 않도록 별도 스레드에서 실행
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::saveKakaoUser);
+    }
 
-        // 토큰을 통해 사용자 정보를 가져오기
-        KakaoUserDTO userDTO = getKakaoUserInfo(accessToken);
-        log.info("userDTO: {}", userDTO);
-        // 일회성 로그인으로 처리 -> dto를 바로 화면단에 리턴
-        // 회원가입 처리 -> 이메일 중복 검사 진행 -> 자체 jwt를 생성해서 토큰을 화면단에 리턴.
-        // -> 화면단에서는 적절한 url을 선택하여 redirect를 진행.
-        if (!isDuplicate(userDTO.getKakaoAccount().getEmail())) {
-            // 이메일이 중복되지 않았다. -> 이전에 로그인 한 적 없음 -> DB에 데이터를 세팅
-            User saved = userRepository.save(userDTO.toEntity(accessToken));
-        }
-        // 이메일이 중복됐다? -> 이전에 로그인 한 적이 있다. -> DB에 데이터를 또 넣을 필요는 없다.
-        User foundUser
-                = userRepository.findByEmail(userDTO.getKakaoAccount().getEmail()).orElseThrow();
+    private LoginResponseDTO saveKakaoUser(User kakaoUser) {
+        // 처음 로그인 했다면 회원가입, 이전에 로그인 한 적이 있다면 카카오 access token 만 갱신
+        // -> 토큰에 로그인 방식(카카오)이 반영되도록 jwt 생성 전에 변경
+        userRepository.upsertKakaoUser(
+                UUID.randomUUID().toString(),
+                kakaoUser.getEmail(),
+                kakaoUser.getPassword(),
+                kakaoUser.getUserName(),
+                kakaoUser.getProfileImg(),
+                kakaoUser.getAccessToken()
+        );
+        User foundUser = userRepository.findByEmail(kakaoUser.getEmail()).orElseThrow();
         // 우리 사이트에서 사용하는 jwt를 생성.
         Map<String, String> token = getTokenMap(foundUser);
-        // 기존에 로그인했던 사용자의 access token값을 update
-        foundUser.changeAccessToken(accessToken);
-        userRepository.save(foundUser);
         return new LoginResponseDTO(foundUser, token);
     }
-    private KakaoUserDTO getKakaoUserInfo(String accessToken) {
-        // 요청 uri
-        String requestURI = "https://kapi.kakao.com/v2/user/me";
-        // 요청 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + accessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-        // 요청 보내기
-        RestTemplate template = new RestTemplate();
-        ResponseEntity<KakaoUserDTO> responseEntity
-                = template.exchange(requestURI, HttpMethod.GET, new HttpEntity<>(headers), KakaoUserDTO.class);
-        // 응답 바디 꺼내기
-        KakaoUserDTO responseData = responseEntity.getBody();
-        log.info("user profile: {}", responseData);
-        return responseData;
-    }
-    private String getKakaoAccessToken(String code) {
-        // 요청 uri
-        String requestURI = "https://kauth.kakao.com/oauth/token";
-        // 요청 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-        // 요청 바디(파라미터) 설정
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code"); // 카카오 공식 문서 기준 값으로 세팅
-        params.add("client_id", KAKAO_CLIENT_ID); // 카카오 디벨로퍼 REST API 키
-        params.add("redirect_uri", KAKAO_REDIRECT_URL); // 카카오 디벨로퍼 등록된 redirect uri
-        params.add("code", code); // 프론트에서 인가 코드 요청시 전달받은 코드값
-        params.add("client_secret", KAKAO_CLIENT_SECRET); // 카카오 디벨로퍼 client secret(활성화 시 추가해 줘야 함)
-        // 헤더와 바디 정보를 합치기 위해 HttpEntity 객체 생성
-        HttpEntity<Object> requestEntity = new HttpEntity<>(params, headers);
-        // 카카오 서버로 POST 통신
-        RestTemplate template = new RestTemplate();
-        // 통신을 보내면서 응답 데이터를 리턴
-        // param1: 요청 url
-        // param2: 요청 메서드 (전송 방식)
-        // param3: 헤더와 요청 파라미터정보 엔터티
-        // param4: 응답 데이터를 받을 객체의 타입 (ex: dto, map)
-        // 만약 구조가 복잡한 경우에는 응답 데이터 타입을 String으로 받아서 JSON-simple 라이브러리로 직접 해체.
-        ResponseEntity<Map> responseEntity
-                = template.exchange(requestURI, HttpMethod.POST, requestEntity, Map.class);
-        /*
-        HTTP/1.1 200 OK
-        Content-Type: application/json;charset=UTF-8
-        {
-            "token_type":"bearer",
-            "access_token":"${ACCESS_TOKEN}",
-            "expires_in":43199,
-            "refresh_token":"${REFRESH_TOKEN}",
-            "refresh_token_expires_in":5184000,
-            "scope":"account_email profile"
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<String> logout(TokenUserInfo userInfo) {
+        // 지금 사용한 액세스 토큰은 만료 전까지 사용할 수 없도록 무효화하고,
+        // 리프레시 토큰은 DB에서 지워서 더 이상 재발급을 받을 수 없도록 한다.
+        tokenRevocationList.revoke(userInfo.getTokenId(), userInfo.getExpiresAt());
+        userRepository.clearRefreshToken(userInfo.getUserId());
+
+        // 자체 회원은 카카오 로그아웃이 필요 없으므로 회원 정보를 조회하지 않는다.
+        if (userInfo.getProvider() == LoginProvider.LOCAL) {
+            return Mono.empty();
         }
-         */
-        // 응답 데이터에서 필요한 정보를 가져오기
-        Map<String, Object> responseData = (Map<String, Object>) responseEntity.getBody();
-        log.info("토큰 요청 응답 데이터: {}", responseData);
-        // 여러가지 데이터 중 access_token이라는 이름의 데이터를 리턴
-        // Object를 String으로 형 변환해서 리턴.
-        return (String) responseData.get("access_token");
-    }
-    public String logout(TokenUserInfo userInfo) {
         User foundUser = userRepository.findById(userInfo.getUserId())
                 .orElseThrow();
         String accessToken = foundUser.getAccessToken();
         // accessToken이 null이 아니라면 카카오 로그인을 한 애겠지?
-        if (accessToken != null) {
-            String reqURI = "https://kapi.kakao.com/v1/user/logout";
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Authorization", "Bearer " + accessToken);
-            ResponseEntity<String> responseData
-                    = new RestTemplate().exchange(reqURI, HttpMethod.POST, new HttpEntity<>(headers), String.class);
-            foundUser.changeAccessToken(null);
-            userRepository.save(foundUser);
-
-            return responseData.getBody();
+        if (accessToken == null) {
+            return Mono.empty();
         }
-        return null;
+        return kakaoApiClient.logout(accessToken)
+                .publishOn(Schedulers.boundedElastic())
+                // boundedElastic 스레드에는 SecurityContext 가 없으므로 복제 DB 라우팅에 사용자를 직접 알려 준다.
+                .doOnNext(responseData -> {
+                    try (ReadYourWritesContext.Scope ignored = ReadYourWritesContext.bind(foundUser.getId())) {
+                        userRepository.clearAccessToken(foundUser.getId());
+                    }
+                });
     }
 
     public String renewalAccessToken(Map<String, String> tokenRequest) {
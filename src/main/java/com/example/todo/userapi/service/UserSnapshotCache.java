@@ -0,0 +1,76 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.exception.NoRegisteredArgumentException;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import com.example.todo.userapi.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰에 들어있는 값은 발급 이후에 바뀌었을 수 있으므로,
+ * 최신 값이 필요한 필드(등급 등)만 짧은 시간 동안 메모리에 보관해 두는 캐시.
+ * 등급을 바꾸는 쪽에서는 evictAfterCommit 을 호출해서 바로 반영되도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCache {
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final UserRepository userRepository;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    @Value("${user.snapshot-ttl:30s}")
+    private Duration ttl;
+
+    public UserSnapshot get(String userId) {
+        long now = System.nanoTime();
+        Entry entry = cache.get(userId);
+        if (entry != null && now < entry.expiresAt()) {
+            return entry.snapshot();
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoRegisteredArgumentException("회원 정보가 없습니다."));
+        UserSnapshot snapshot = new UserSnapshot(user.getId(), user.getRole());
+
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(e -> now >= e.expiresAt());
+        }
+        cache.put(userId, new Entry(snapshot, now + ttl.toNanos()));
+        return snapshot;
+    }
+
+    public void evict(String userId) {
+        cache.remove(userId);
+    }
+
+    // 트랜잭션 안에서 지우면 커밋 전에 다른 요청이 이전 값을 다시 읽어서 캐시할 수 있으므로 커밋된 뒤에 지운다.
+    // (롤백되면 값이 바뀌지 않았으므로 지우지 않음, 트랜잭션 밖에서 호출하면 바로 지움)
+    public void evictAfterCommit(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public record UserSnapshot(String userId, Role role) {
+    }
+
+    private record Entry(UserSnapshot snapshot, long expiresAt) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.todo.warmup;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenRevocationList;
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 워밍업에서 반복 실행할 요청 경로들 (가짜 데이터만 사용)
+ * - 실제 요청과 같은 코드를 실행해야 JIT 이 같은 코드를 컴파일한다.
+ *   -> 할 일 API 는 루프백 HTTP 로 호출해서 톰캣, 필터(JWT, 메트릭, 압축), 시큐리티, 컨트롤러, 메시지 컨버터를 함께 거친다.
+ * - DB 는 존재하지 않는 회원으로 조회만 해서 데이터를 바꾸지 않는다.
+ */
+public final class WarmupExercises {
+
+    private WarmupExercises() {
+    }
+
+    /**
+     * 주어진 시간 동안 경로들을 번갈아 반복 실행
+     * @return 반복한 횟수
+     */
+    public static long runFor(Duration duration, List<Runnable> exercises) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long rounds = 0;
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            for (Runnable exercise : exercises) {
+                exercise.run();
+            }
+            rounds++;
+        }
+        return rounds;
+    }
+
+    // JwtAuthFilter 와 같은 순서: 토큰 발급 -> 서명 검증/클레임 추출 -> 무효화 확인 -> 재발급 권유 여부
+    public static Runnable jwt(TokenProvider tokenProvider, TokenRevocationList revocationList) {
+        User user = syntheticUser();
+        return () -> {
+            String token = tokenProvider.createAccessKey(user);
+            TokenUserInfo userInfo = tokenProvider.validateAndGetTokenUserInfo(token);
+            revocationList.isRevoked(userInfo.getTokenId());
+            tokenProvider.isRefreshRecommended(userInfo);
+        };
+    }
+
+    // 요청 DTO 역직렬화 + 응답 DTO 직렬화
+    public static Runnable json(ObjectMapper objectMapper, int todoCount) {
+        byte[] createRequest = toJson(objectMapper, new TodoCreateRequestDTO("warmup"));
+        byte[] modifyRequest = toJson(objectMapper, new TodoModifyRequestDTO(UUID.randomUUID().toString(), true, 0L));
+        TodoListResponseDTO response = syntheticList(todoCount);
+        return () -> {
+            try {
+                objectMapper.readValue(createRequest, TodoCreateRequestDTO.class);
+                objectMapper.readValue(modifyRequest, TodoModifyRequestDTO.class);
+                objectMapper.writeValueAsBytes(response);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * 실제 요청 경로로 할 일 API 호출 (가짜 회원의 토큰 사용)
+     * - GET /api/todos (json, cbor): JwtAuthFilter -> TodoController -> TodoService.findAllShared -> 리포지토리 (결과는 항상 빈 목록)
+     * - POST /api/todos 에 검증에 실패하는 제목: 요청 본문 역직렬화 + 검증 (400 이므로 저장하지 않음)
+     * 토큰은 수명이 짧을 수 있으므로 반복할 때마다 새로 발급
+     *
+     * @param baseUri - http://127.0.0.1:{port}{context-path}
+     */
+    public static Runnable http(HttpClient client, URI baseUri, TokenProvider tokenProvider) {
+        User user = syntheticUser();
+        URI todos = baseUri.resolve(baseUri.getPath() + "/api/todos");
+        return () -> {
+            String authorization = "Bearer " + tokenProvider.createAccessKey(user);
+            send(client, HttpRequest.newBuilder(todos)
+                    .header("Authorization", authorization)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build());
+            send(client, HttpRequest.newBuilder(todos)
+                    .header("Authorization", authorization)
+                    .header("Accept", "application/cbor")
+                    .GET()
+                    .build());
+            send(client, HttpRequest.newBuilder(todos)
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"\"}"))
+                    .build());
+        };
+    }
+
+    private static void send(HttpClient client, HttpRequest request) {
+        try {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static User syntheticUser() {
+        return User.builder()
+                .id("warmup-" + UUID.randomUUID())
+                .email("warmup@todo.local")
+                .password("")
+                .userName("warmup")
+                .role(Role.COMMON)
+                .build();
+    }
+
+    static TodoListResponseDTO syntheticList(int todoCount) {
+        List<TodoDetailResponseDTO> todos = new ArrayList<>(todoCount);
+        for (int i = 0; i < todoCount; i++) {
+            todos.add(new TodoDetailResponseDTO(UUID.randomUUID().toString(), "할 일 " + i, i % 2 == 0, i));
+        }
+        return TodoListResponseDTO.builder()
+                .todos(todos)
+                .build();
+    }
+
+    private static byte[] toJson(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
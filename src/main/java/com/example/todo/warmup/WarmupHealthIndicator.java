@@ -0,0 +1,24 @@
+package com.example.todo.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// readiness 그룹에 포함 (management.endpoint.health.group.readiness.include) -> 워밍업이 끝나야 트래픽을 받음
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        if (warmupRunner.isDone()) {
+            return Health.up().build();
+        }
+        return Health.outOfService()
+                .withDetail("reason", "JIT 워밍업 중")
+                .build();
+    }
+}
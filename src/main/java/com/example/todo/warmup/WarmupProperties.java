@@ -0,0 +1,31 @@
+package com.example.todo.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/*
+ 배포 직후 JIT 워밍업 설정 (yml 의 warmup)
+
+ warmup:
+   enabled: true
+   duration: 20s       # 워밍업 시간 -> 끝날 때까지 readiness 는 OUT_OF_SERVICE
+   synthetic-todos: 50 # json 변환에 사용할 가짜 할 일 개수
+   concurrency: 4      # 동시에 워밍업 요청을 보내는 스레드 수
+*/
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    private Duration duration = Duration.ofSeconds(20);
+
+    private int syntheticTodos = 50;
+
+    private int concurrency = 4;
+}
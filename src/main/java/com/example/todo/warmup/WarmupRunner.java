@@ -0,0 +1,107 @@
+package com.example.todo.warmup;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenRevocationList;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버가 뜬 직후 할 일 API 를 루프백 HTTP 로 반복 호출 (+ JWT 발급, 목록 크기의 JSON 변환)
+ * -> 첫 요청들이 인터프리터로 실행되면서 생기는 지연(p99 튐)을 트래픽을 받기 전에 미리 치른다.
+ * 톰캣 요청 스레드 여러 개가 함께 데워지도록 warmup.concurrency 개의 스레드에서 동시에 실행합니다.
+ * 워밍업이 끝날 때까지 WarmupHealthIndicator 가 readiness 를 OUT_OF_SERVICE 로 유지합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final WarmupProperties properties;
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean done = false;
+
+    public boolean isDone() {
+        return done || !properties.isEnabled();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!properties.isEnabled()) return;
+        URI baseUri = localBaseUri(event.getApplicationContext());
+        // liveness 와 액추에이터 응답은 막지 않도록 별도 스레드에서 실행
+        Thread thread = new Thread(() -> warmUp(baseUri), "jit-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void warmUp(URI baseUri) {
+        List<Runnable> exercises = new ArrayList<>(List.of(
+                WarmupExercises.jwt(tokenProvider, tokenRevocationList),
+                WarmupExercises.json(objectMapper, properties.getSyntheticTodos())
+        ));
+        HttpClient client = null;
+        if (baseUri != null) {
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(1))
+                    .build();
+            exercises.add(WarmupExercises.http(client, baseUri, tokenProvider));
+        } else {
+            log.warn("웹 서버 포트를 알 수 없어 HTTP 요청 경로는 워밍업하지 않습니다.");
+        }
+
+        long start = System.currentTimeMillis();
+        AtomicLong rounds = new AtomicLong();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < properties.getConcurrency(); i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    rounds.addAndGet(WarmupExercises.runFor(properties.getDuration(), exercises));
+                } catch (RuntimeException e) {
+                    // 워밍업 실패 때문에 서버가 트래픽을 못 받으면 안 되므로 경고만 남기고 준비 완료로 처리
+                    log.warn("JIT 워밍업 중 오류가 발생해 중단합니다.", e);
+                }
+            }, "jit-warmup-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            log.info("JIT 워밍업 완료 - {}회 반복, {} ms", rounds.get(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            done = true;
+        }
+    }
+
+    // 내장 톰캣이 실제로 열린 포트 (server.port=0 이어도 됨)
+    private static URI localBaseUri(ApplicationContext context) {
+        if (!(context instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            return null;
+        }
+        int port = webContext.getWebServer().getPort();
+        if (port <= 0) return null;
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        return URI.create("http://127.0.0.1:" + port + contextPath);
+    }
+}
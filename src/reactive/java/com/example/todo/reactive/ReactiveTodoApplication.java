@@ -0,0 +1,42 @@
+package com.example.todo.reactive;
+
+import com.example.todo.auth.JwtKeyRing;
+import com.example.todo.auth.TokenProperties;
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.config.TokenRevocationConfig;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 할 일 API 의 리액티브 버전 (WebFlux + R2DBC) - 기존 MVC 서버(TodoApplication)와 별도로 실행
+ * 같은 url, 같은 DTO, 같은 JWT 로 동작하며 이벤트 루프 스레드 몇 개로 요청을 처리합니다.
+ * 실행: ./gradlew bootRunReactive (설정: application-reactive.yml)
+ * 이벤트 루프 스레드 수: -Dreactor.netty.ioWorkerCount=4
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+// 토큰 발급/검증은 MVC 서버와 같은 객체를 사용
+@Import({TokenProperties.class, TokenProvider.class, JwtKeyRing.class, TokenRevocationConfig.class})
+@EnableScheduling
+public class ReactiveTodoApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveTodoApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.todo.reactive.api;
+
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.exception.TodoNotFoundException;
+import com.example.todo.reactive.service.ReactiveTodoService;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+import static com.example.todo.config.logging.LogMarkers.REQUEST;
+
+// TodoController 와 같은 요청/응답을 함수형 엔드포인트로 처리
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodoHandler {
+
+    private final ReactiveTodoService todoService;
+    private final Validator validator;
+
+    // 할 일 등록하기
+    public Mono<ServerResponse> createTodo(ServerRequest request) {
+        log.info(REQUEST, "/api/todos POST request!");
+        return request.bodyToMono(TodoCreateRequestDTO.class)
+                .flatMap(requestDTO -> validated(requestDTO, dto -> userId(request)
+                        .flatMap(userId -> todoService.create(dto, userId))
+                        .flatMap(this::ok)))
+                .onErrorResume(this::handleError);
+    }
+
+    // 할 일 목록 요청
+    public Mono<ServerResponse> retrieveTodoList(ServerRequest request) {
+        log.info(REQUEST, "/api/todos GET request!");
+        return userId(request)
+                .flatMap(todoService::findAll)
+                .flatMap(this::ok)
+                .onErrorResume(this::handleError);
+    }
+
+    // 할 일 삭제 요청
+    public Mono<ServerResponse> deleteTodo(ServerRequest request) {
+        String todoId = request.pathVariable("id");
+        log.info(REQUEST, "api/todos/{} DELETE request!", todoId);
+
+        if (todoId.trim().isEmpty()) {
+            return ServerResponse.badRequest().bodyValue("ID를 전달해 주세요");
+        }
+        return userId(request)
+                .flatMap(userId -> todoService.delete(todoId, userId))
+                .flatMap(this::ok)
+                .onErrorResume(this::handleError);
+    }
+
+    // 완료된 할 일 일괄 삭제 요청
+    // DELETE: /api/todos?done=true
+    public Mono<ServerResponse> deleteDoneTodos(ServerRequest request) {
+        // MVC 의 필수 @RequestParam 과 같이 done 이 없으면 400
+        if (request.queryParam("done").isEmpty()) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Required request parameter 'done' for method parameter type boolean is not present");
+        }
+        boolean done = Boolean.parseBoolean(request.queryParam("done").get());
+        log.info(REQUEST, "api/todos?done={} DELETE request!", done);
+
+        if (!done) {
+            return ServerResponse.badRequest().bodyValue("완료된 할 일만 일괄 삭제할 수 있습니다.");
+        }
+        return userId(request)
+                .flatMap(todoService::deleteDone)
+                .flatMap(this::ok)
+                .onErrorResume(this::handleError);
+    }
+
+    // 할 일 수정 요청
+    public Mono<ServerResponse> updateTodo(ServerRequest request) {
+        return request.bodyToMono(TodoModifyRequestDTO.class)
+                .flatMap(requestDTO -> validated(requestDTO, dto -> userId(request)
+                        .flatMap(userId -> todoService.update(dto, userId))
+                        .flatMap(this::ok)))
+                .onErrorResume(this::handleError);
+    }
+
+    // JwtAuthWebFilter 가 등록한 인증 정보에서 사용자 아이디를 꺼낸다.
+    private Mono<String> userId(ServerRequest request) {
+        return request.principal()
+                .cast(Authentication.class)
+                .map(auth -> ((TokenUserInfo) auth.getPrincipal()).getUserId());
+    }
+
+    private Mono<ServerResponse> ok(TodoListResponseDTO responseDTO) {
+        return ServerResponse.ok().bodyValue(responseDTO);
+    }
+
+    // 입력값 검증 - 실패하면 MVC 와 같이 FieldError 목록을 400 으로 응답
+    private <T> Mono<ServerResponse> validated(T requestDTO, Function<T, Mono<ServerResponse>> next) {
+        Errors errors = new BeanPropertyBindingResult(requestDTO, "requestDTO");
+        validator.validate(requestDTO, errors);
+        if (errors.hasErrors()) {
+            errors.getFieldErrors().forEach(err -> log.warn("invalid client data - {}", err));
+            return ServerResponse.badRequest().bodyValue(errors.getFieldErrors());
+        }
+        return next.apply(requestDTO);
+    }
+
+    // GlobalExceptionHandler 와 같은 상태 코드로 응답
+    private Mono<ServerResponse> handleError(Throwable e) {
+        HttpStatus status;
+        String message = e.getMessage();
+        if (e instanceof TodoNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+        } else if (e instanceof OptimisticLockingFailureException) {
+            log.warn("수정 충돌 발생: {}", e.getMessage());
+            status = HttpStatus.CONFLICT;
+            message = "다른 곳에서 먼저 수정되었습니다. 목록을 다시 불러와 주세요.";
+        } else if (e instanceof IllegalArgumentException) {
+            status = HttpStatus.FORBIDDEN;
+        } else if (e instanceof RuntimeException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        return ServerResponse.status(status).bodyValue(message != null ? message : status.getReasonPhrase());
+    }
+}
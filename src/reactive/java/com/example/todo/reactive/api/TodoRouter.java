@@ -0,0 +1,26 @@
+package com.example.todo.reactive.api;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+// TodoController 와 같은 url 매핑 (경로를 정확히 지정 -> 하위 경로는 404)
+@Configuration
+public class TodoRouter {
+
+    private static final String TODOS = "/api/todos";
+
+    @Bean
+    public RouterFunction<ServerResponse> todoRoutes(TodoHandler handler) {
+        return RouterFunctions.route()
+                .GET(TODOS, handler::retrieveTodoList)
+                .POST(TODOS, handler::createTodo)
+                .PATCH(TODOS, handler::updateTodo)
+                .DELETE(TODOS + "/{id}", handler::deleteTodo)
+                // DELETE: /api/todos?done=true (done 이 없거나 false 라면 400)
+                .DELETE(TODOS, handler::deleteDoneTodos)
+                .build();
+    }
+}
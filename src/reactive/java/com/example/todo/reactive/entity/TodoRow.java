@@ -0,0 +1,69 @@
+package com.example.todo.reactive.entity;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// tbl_todo 테이블의 R2DBC 매핑 (JPA 엔터티 Todo 와 같은 테이블)
+@Setter @Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table("tbl_todo")
+public class TodoRow implements Persistable<String> {
+
+    @Id
+    @Column("todo_id")
+    private String todoId;
+
+    private String title; // 할 일
+
+    private boolean done; // 할 일 완료 여부
+
+    @Column("create_date")
+    private LocalDateTime createDate; // 등록 시간
+
+    @Column("user_id")
+    private String userId;
+
+    // JPA 의 @Version 과 같은 컬럼 - 변경은 UPDATE 쿼리에서 직접 증가시킨다.
+    private long version;
+
+    // 아이디를 직접 생성하므로 INSERT 인지 UPDATE 인지 알려줘야 함
+    @Transient
+    @Builder.Default
+    private boolean newRow = false;
+
+    // 새 할 일 생성 (JPA 엔터티와 같이 UUID 를 아이디로 사용)
+    public static TodoRow create(String title, String userId) {
+        return TodoRow.builder()
+                .todoId(UUID.randomUUID().toString())
+                .title(title)
+                .createDate(LocalDateTime.now())
+                .userId(userId)
+                .newRow(true)
+                .build();
+    }
+
+    public TodoDetailResponseDTO toResponseDTO() {
+        return new TodoDetailResponseDTO(todoId, title, done, version);
+    }
+
+    @Override
+    public String getId() {
+        return todoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+}
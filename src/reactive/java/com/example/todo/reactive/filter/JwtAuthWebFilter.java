@@ -0,0 +1,125 @@
+package com.example.todo.reactive.filter;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.auth.TokenRevocationList;
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.exception.ErrorCode;
+import com.example.todo.exception.RevokedTokenException;
+import com.example.todo.filter.JwtAuthFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JwtAuthFilter + JwtExceptionFilter 의 리액티브 버전
+ * 토큰 검증은 같은 TokenProvider, 로그아웃 토큰 확인은 같은 TokenRevocationList 를 사용합니다.
+ * (서명 검증은 CPU 작업만 하므로 이벤트 루프에서 바로 실행)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthWebFilter implements WebFilter {
+
+    // 에러 응답 바디는 ErrorCode 마다 항상 같으므로 미리 JSON 바이트로 만들어 둔다.
+    private static final Map<ErrorCode, byte[]> ERROR_BODIES = createErrorBodies();
+
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = parseBearerToken(exchange);
+        // 토큰이 없다면 인증 없이 통과 -> 인증이 필요한 url 이라면 security 가 INVALID_AUTH 로 응답
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        TokenUserInfo userInfo;
+        try {
+            userInfo = tokenProvider.validateAndGetTokenUserInfo(token);
+            if (tokenRevocationList.isRevoked(userInfo.getTokenId())) {
+                throw new RevokedTokenException("무효화된 토큰입니다.");
+            }
+        } catch (ExpiredJwtException e) {
+            log.debug("ExpiredJwtException 발생함!");
+            return writeError(exchange.getResponse(), ErrorCode.EXPIRED_TOKEN);
+        } catch (RevokedTokenException e) {
+            log.debug("무효화된 토큰으로 요청함!");
+            return writeError(exchange.getResponse(), ErrorCode.REVOKED_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JwtException 발생함!");
+            return writeError(exchange.getResponse(), ErrorCode.INVALID_TOKEN);
+        }
+
+        // 만료가 가까운 토큰이라면 클라이언트에게 미리 재발급을 권유
+        if (tokenProvider.isRefreshRecommended(userInfo)) {
+            exchange.getResponse().getHeaders().set(JwtAuthFilter.TOKEN_REFRESH_HINT_HEADER, "true");
+        }
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userInfo, // 컨트롤러에서 활용할 유저 정보
+                null, // 인증된 사용자의 비밀번호 - 보통 null 값
+                List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole().toString()))
+        );
+        // 요청마다 세션/스레드 로컬 대신 리액터 Context 로 인증 정보를 전달
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+    }
+
+    private String parseBearerToken(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    // JwtExceptionFilter 와 같은 형식의 에러 응답
+    public static Mono<Void> writeError(ServerHttpResponse response, ErrorCode errorCode) {
+        if (response.isCommitted()) {
+            log.warn("응답이 이미 전송되어 에러 응답을 보낼 수 없습니다. - {}", errorCode);
+            return Mono.empty();
+        }
+        byte[] body = ERROR_BODIES.get(errorCode);
+        response.setStatusCode(errorCode.getHttpStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    private static Map<ErrorCode, byte[]> createErrorBodies() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            Map<String, Object> responseMap = new HashMap<>();
+            responseMap.put("message", errorCode.toString());
+            responseMap.put("code", errorCode.getHttpStatus());
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(responseMap));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 생성 실패 - " + errorCode, e);
+            }
+        }
+        return bodies;
+    }
+}
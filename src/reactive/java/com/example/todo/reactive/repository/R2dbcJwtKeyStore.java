@@ -0,0 +1,61 @@
+package com.example.todo.reactive.repository;
+
+import com.example.todo.auth.JwtKeyStore;
+import com.example.todo.auth.StoredSigningKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// MVC 서버와 같은 tbl_jwt_signing_key 를 R2DBC 로 사용 -> 두 서버가 같은 키로 서명/검증
+// JwtKeyRing 은 서버가 뜰 때와 스케줄러 스레드에서만 호출하므로 여기서 block() 해도 이벤트 루프를 막지 않는다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.signing-mode", havingValue = "ES256")
+public class R2dbcJwtKeyStore implements JwtKeyStore {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public List<StoredSigningKey> findFromSlot(long minSlot) {
+        return databaseClient.sql("SELECT key_id, slot, public_key, private_key FROM tbl_jwt_signing_key " +
+                        "WHERE slot >= :slot ORDER BY slot")
+                .bind("slot", minSlot)
+                .map(row -> new StoredSigningKey(
+                        row.get("key_id", String.class),
+                        row.get("slot", Long.class),
+                        row.get("public_key", String.class),
+                        row.get("private_key", String.class)))
+                .all()
+                .collectList()
+                .block();
+    }
+
+    @Override
+    public boolean insertIfAbsent(StoredSigningKey key) {
+        try {
+            databaseClient.sql("INSERT INTO tbl_jwt_signing_key (key_id, slot, public_key, private_key, created_at) " +
+                            "VALUES (:keyId, :slot, :publicKey, :privateKey, NOW(6))")
+                    .bind("keyId", key.keyId())
+                    .bind("slot", key.slot())
+                    .bind("publicKey", key.publicKey())
+                    .bind("privateKey", key.encryptedPrivateKey())
+                    .then()
+                    .block();
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void deleteBeforeSlot(long slot) {
+        databaseClient.sql("DELETE FROM tbl_jwt_signing_key WHERE slot < :slot")
+                .bind("slot", slot)
+                .then()
+                .block();
+    }
+}
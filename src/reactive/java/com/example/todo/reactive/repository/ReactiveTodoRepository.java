@@ -0,0 +1,45 @@
+package com.example.todo.reactive.repository;
+
+import com.example.todo.reactive.entity.TodoRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// TodoRepository 와 같은 쿼리를 R2DBC 로 실행
+public interface ReactiveTodoRepository extends ReactiveCrudRepository<TodoRow, String> {
+
+    // 특정 회원의 할 일 목록
+    Flux<TodoRow> findAllByUserId(String userId);
+
+    // 회원이 작성한 일정의 개수
+    Mono<Long> countByUserId(String userId);
+
+    // 글쓰기 제한에 사용할 회원 등급
+    @Query("SELECT role FROM tbl_user WHERE user_id = :userId")
+    Mono<String> findUserRole(@Param("userId") String userId);
+
+    // 할 일 완료 여부 변경 (version 을 전달하면 해당 버전일 때만 변경) -> 변경된 행의 개수
+    @Modifying
+    @Query("UPDATE tbl_todo SET done = :done, version = version + 1 " +
+            "WHERE todo_id = :todoId AND user_id = :userId " +
+            "AND (:version IS NULL OR version = :version)")
+    Mono<Integer> updateDone(@Param("todoId") String todoId,
+                             @Param("userId") String userId,
+                             @Param("done") boolean done,
+                             @Param("version") Long version);
+
+    // 작성자 본인의 할 일 삭제 -> 삭제된 행의 개수
+    @Modifying
+    @Query("DELETE FROM tbl_todo WHERE todo_id = :todoId AND user_id = :userId")
+    Mono<Integer> deleteByIdAndUserId(@Param("todoId") String todoId, @Param("userId") String userId);
+
+    // 특정 회원의 완료된 할 일 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM tbl_todo WHERE user_id = :userId AND done = true")
+    Mono<Integer> deleteDoneByUserId(@Param("userId") String userId);
+
+    Mono<Boolean> existsByTodoIdAndUserId(String todoId, String userId);
+}
@@ -0,0 +1,86 @@
+package com.example.todo.reactive.service;
+
+import com.example.todo.exception.NoRegisteredArgumentException;
+import com.example.todo.exception.TodoNotFoundException;
+import com.example.todo.reactive.entity.TodoRow;
+import com.example.todo.reactive.repository.ReactiveTodoRepository;
+import com.example.todo.todoapi.dto.request.TodoCreateRequestDTO;
+import com.example.todo.todoapi.dto.request.TodoModifyRequestDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.userapi.entity.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+// TodoService 와 같은 규칙을 논블로킹으로 처리
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReactiveTodoService {
+
+    private final ReactiveTodoRepository todoRepository;
+
+    @Transactional
+    public Mono<TodoListResponseDTO> create(final TodoCreateRequestDTO requestDTO, final String userId) {
+        return todoRepository.findUserRole(userId)
+                .switchIfEmpty(Mono.error(() -> new NoRegisteredArgumentException("회원 조회에 실패했습니다.")))
+                // 일반 회원이 일정을 5개 초과해서 작성하면 예외를 발생.
+                .flatMap(role -> Role.COMMON.name().equals(role)
+                        ? todoRepository.countByUserId(userId)
+                        : Mono.just(0L))
+                .flatMap(count -> count >= 5
+                        ? Mono.error(new IllegalArgumentException("일반회원은 5개까지만 등록 가능합니다."))
+                        : todoRepository.save(TodoRow.create(requestDTO.getTitle(), userId)))
+                .doOnNext(saved -> log.debug("할 일 저장완료! 제목: {}", saved.getTitle()))
+                .then(findAll(userId));
+    }
+
+    // 할 일 목록 가져오기
+    public Mono<TodoListResponseDTO> findAll(String userId) {
+        return todoRepository.findAllByUserId(userId)
+                .map(TodoRow::toResponseDTO)
+                .collectList()
+                .map(todos -> TodoListResponseDTO.builder()
+                        .todos(todos)
+                        .build());
+    }
+
+    @Transactional
+    public Mono<TodoListResponseDTO> delete(final String todoId, String userId) {
+        return todoRepository.deleteByIdAndUserId(todoId, userId)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new TodoNotFoundException("id가 존재하지 않아 삭제에 실패 했습니다."))
+                        : findAll(userId));
+    }
+
+    // 완료된 할 일 일괄 삭제
+    @Transactional
+    public Mono<TodoListResponseDTO> deleteDone(String userId) {
+        return todoRepository.deleteDoneByUserId(userId)
+                .doOnNext(deleted -> log.debug("완료된 할 일 {}개 삭제 완료!", deleted))
+                .then(findAll(userId));
+    }
+
+    @Transactional
+    public Mono<TodoListResponseDTO> update(final TodoModifyRequestDTO requestDTO, String userId) {
+        return todoRepository.updateDone(requestDTO.getId(), userId, requestDTO.isDone(), requestDTO.getVersion())
+                .flatMap(updated -> updated > 0
+                        ? findAll(userId)
+                        : updateFailure(requestDTO, userId));
+    }
+
+    // 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회 (버전 충돌인지, 없는 할 일인지)
+    private Mono<TodoListResponseDTO> updateFailure(TodoModifyRequestDTO requestDTO, String userId) {
+        if (requestDTO.getVersion() == null) {
+            return Mono.error(new TodoNotFoundException("수정할 할 일이 존재하지 않습니다."));
+        }
+        return todoRepository.existsByTodoIdAndUserId(requestDTO.getId(), userId)
+                .flatMap(exists -> Mono.error(exists
+                        ? new OptimisticLockingFailureException("다른 곳에서 먼저 수정되었습니다. - ID: " + requestDTO.getId())
+                        : new TodoNotFoundException("수정할 할 일이 존재하지 않습니다.")));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.todo;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import com.example.todo.userapi.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증된 요청 하나가 실행하는 쿼리 개수 (Hibernate 통계의 PreparedStatement 수)
+ * - 토큰의 클레임(프로필, 로그인 방식)을 사용하므로 회원 정보를 다시 조회하지 않는다.
+ * - 이전 방식(회원을 먼저 조회)과 비교할 수 있도록 프로필 클레임이 없는 예전 토큰의 쿼리 수도 함께 기록
+ * 운영에서는 같은 값을 http.server.requests.db.queries 메트릭으로 볼 수 있습니다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // embedded 프로필은 /api/auth/** 를 모두 열어 두므로 토큰이 필요한 요청은 인증하도록 좁힌다.
+        "request.permit-all-patterns=/api/auth/signin,/api/auth/check"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class QueriesPerRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TokenProvider tokenProvider;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@todo.local")
+                .password("password")
+                .userName("queries")
+                .profileImg("http://img.todo.local/profile.png")
+                .build());
+    }
+
+    @Test
+    @DisplayName("할 일 목록 조회는 목록 쿼리 하나만 실행한다 (이전: 회원 조회 + 목록 조회)")
+    void todoListRunsOneQuery() throws Exception {
+        String token = tokenProvider.createAccessKey(user);
+
+        long queries = countQueries(get("/api/todos").header("Authorization", "Bearer " + token));
+
+        assertThat(queries).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필 경로는 토큰에서 읽어서 쿼리를 실행하지 않는다 (예전 토큰은 회원 조회 1번)")
+    void profilePathComesFromToken() throws Exception {
+        String token = tokenProvider.createAccessKey(user);
+
+        long fromClaims = countQueries(get("/api/auth/load-profile").header("Authorization", "Bearer " + token));
+        long fromLegacyToken = countQueries(get("/api/auth/load-profile").header("Authorization", "Bearer " + legacyToken()));
+
+        assertThat(fromClaims).isZero();
+        assertThat(fromLegacyToken).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("할 일 등록은 등급을 캐시에서 읽는다 (첫 요청만 회원 조회)")
+    void createReadsRoleFromCache() throws Exception {
+        String token = tokenProvider.createAccessKey(user);
+
+        long first = countQueries(createTodo(token, "첫 번째 할 일"));
+        long second = countQueries(createTodo(token, "두 번째 할 일"));
+
+        // 회원 조회(캐시) + 개수 + INSERT + 목록
+        assertThat(first).isEqualTo(4);
+        // 개수 + INSERT + 목록
+        assertThat(second).isEqualTo(3);
+    }
+
+    private RequestBuilder createTodo(String token, String title) {
+        return post("/api/todos")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"" + title + "\"}");
+    }
+
+    private long countQueries(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 프로필, 로그인 방식 클레임을 넣기 전에 발급된 형태의 토큰
+    private String legacyToken() {
+        return Jwts.builder()
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS512)
+                .setClaims(Map.of("email", user.getEmail(), "role", Role.COMMON.name()))
+                .setIssuer("Todo운영자")
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(Instant.now().plusSeconds(60)))
+                .setSubject(user.getId())
+                .setId(UUID.randomUUID().toString())
+                .compact();
+    }
+}
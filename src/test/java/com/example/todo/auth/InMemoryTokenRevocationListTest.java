@@ -0,0 +1,73 @@
+package com.example.todo.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenRevocationListTest {
+
+    // 1분 버킷의 시작 시각
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final InMemoryTokenRevocationList revocationList = new InMemoryTokenRevocationList();
+
+    @BeforeEach
+    void setUp() {
+        moveTo(NOW);
+    }
+
+    @Test
+    @DisplayName("무효화한 토큰만 무효로 판단한다")
+    void revokedTokenIsRevoked() {
+        revocationList.revoke("revoked", NOW.plusSeconds(30));
+
+        assertThat(revocationList.isRevoked("revoked")).isTrue();
+        assertThat(revocationList.isRevoked("other")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 목록에 넣지 않는다 (서명 검증에서 거부됨)")
+    void expiredTokenIsNotStored() {
+        revocationList.revoke("expired", NOW.minusSeconds(1));
+        revocationList.revoke("no-expiry", null);
+
+        assertThat(revocationList.isRevoked("expired")).isFalse();
+        assertThat(revocationList.isRevoked("no-expiry")).isFalse();
+    }
+
+    @Test
+    @DisplayName("정리는 만료 시간이 지난 버킷만 통째로 제거한다")
+    void purgeRemovesOnlyPastBuckets() {
+        revocationList.revoke("first-minute", NOW.plusSeconds(10));
+        revocationList.revoke("first-minute-end", NOW.plusSeconds(59));
+        revocationList.revoke("second-minute", NOW.plusSeconds(60));
+
+        // 첫 번째 버킷이 아직 진행 중 -> 아무것도 지우지 않음
+        moveTo(NOW.plusSeconds(59));
+        revocationList.purgeExpired();
+        assertThat(revocationList.isRevoked("first-minute")).isTrue();
+
+        // 첫 번째 버킷의 토큰은 모두 만료 -> 버킷째 제거, 다음 버킷은 유지
+        moveTo(NOW.plus(Duration.ofSeconds(60)));
+        revocationList.purgeExpired();
+        assertThat(revocationList.isRevoked("first-minute")).isFalse();
+        assertThat(revocationList.isRevoked("first-minute-end")).isFalse();
+        assertThat(revocationList.isRevoked("second-minute")).isTrue();
+
+        moveTo(NOW.plus(Duration.ofSeconds(120)));
+        revocationList.purgeExpired();
+        assertThat(revocationList.isRevoked("second-minute")).isFalse();
+    }
+
+    private void moveTo(Instant instant) {
+        revocationList.setClock(Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.todo.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingTest {
+
+    private static final Duration INTERVAL = Duration.ofHours(24);
+
+    private final InMemoryKeyStore store = new InMemoryKeyStore();
+    private final MutableClock clock = new MutableClock(INTERVAL.toMillis() * 1000);
+    private JwtKeyRing nodeA;
+    private JwtKeyRing nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        nodeA = newRing();
+        nodeB = newRing();
+    }
+
+    @Test
+    @DisplayName("같은 저장소를 쓰는 서버는 같은 키로 서명하고 서로의 토큰을 검증한다")
+    void nodesShareSigningKey() {
+        SigningKey active = nodeA.getActiveKey();
+
+        assertThat(nodeB.getActiveKey().keyId()).isEqualTo(active.keyId());
+        assertThat(nodeB.findVerificationKey(active.keyId())).isEqualTo(nodeA.findVerificationKey(active.keyId()));
+        assertThat(nodeB.getJwks()).isEqualTo(nodeA.getJwks());
+        // 현재 구간 + 다음 구간 키만 만들어진다.
+        assertThat(store.keys).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("교체 시점이 지나면 모든 서버가 미리 공개해 둔 다음 키로 함께 바뀌고 이전 키는 검증용으로 남는다")
+    void nodesRotateTogether() {
+        String before = nodeA.getActiveKey().keyId();
+        String next = store.keys.lastEntry().getValue().keyId();
+        // 교체 전에도 다음 키로 서명된 토큰을 검증할 수 있다. (서버 시계가 조금 어긋나도 됨)
+        assertThat(nodeB.findVerificationKey(next)).isNotNull();
+
+        clock.advance(INTERVAL);
+        // 저장소를 다시 읽기 전이라도 시각만으로 같은 키를 고른다.
+        assertThat(nodeA.getActiveKey().keyId()).isEqualTo(next);
+        assertThat(nodeB.getActiveKey().keyId()).isEqualTo(next);
+
+        nodeA.refresh();
+        nodeB.refresh();
+        assertThat(nodeA.getJwks()).isEqualTo(nodeB.getJwks());
+        assertThat(nodeB.findVerificationKey(before)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("retained-keys 보다 오래된 키는 검증에서 빠지고 저장소에서도 삭제된다")
+    void expiredKeysAreDropped() {
+        String first = nodeA.getActiveKey().keyId();
+
+        clock.advance(INTERVAL.multipliedBy(3));
+        nodeA.refresh();
+        nodeB.refresh();
+
+        assertThat(nodeA.findVerificationKey(first)).isNull();
+        assertThat(nodeB.findVerificationKey(first)).isNull();
+        assertThat(store.keys.values()).extracting(StoredSigningKey::keyId).doesNotContain(first);
+    }
+
+    @Test
+    @DisplayName("저장소에 넣는 개인키는 암호화되어 있다")
+    void privateKeyIsEncrypted() {
+        StoredSigningKey stored = store.keys.firstEntry().getValue();
+        byte[] plain = nodeA.getActiveKey().key().getEncoded();
+
+        assertThat(Base64.getDecoder().decode(stored.encryptedPrivateKey())).isNotEqualTo(plain);
+    }
+
+    private JwtKeyRing newRing() throws Exception {
+        JwtKeyRing ring = new JwtKeyRing(store);
+        ReflectionTestUtils.setField(ring, "rotationInterval", INTERVAL);
+        ReflectionTestUtils.setField(ring, "retainedKeys", 2);
+        ReflectionTestUtils.setField(ring, "keyEncryptionKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ring.setClock(clock);
+        ring.init();
+        return ring;
+    }
+
+    // slot 마다 먼저 들어온 키 하나만 받는 저장소 (tbl_jwt_signing_key 의 unique 제약과 같음)
+    static class InMemoryKeyStore implements JwtKeyStore {
+
+        final ConcurrentSkipListMap<Long, StoredSigningKey> keys = new ConcurrentSkipListMap<>();
+
+        @Override
+        public List<StoredSigningKey> findFromSlot(long minSlot) {
+            return List.copyOf(keys.tailMap(minSlot, true).values());
+        }
+
+        @Override
+        public boolean insertIfAbsent(StoredSigningKey key) {
+            return keys.putIfAbsent(key.slot(), key) == null;
+        }
+
+        @Override
+        public void deleteBeforeSlot(long slot) {
+            keys.headMap(slot, false).clear();
+        }
+    }
+
+    static class MutableClock extends Clock {
+
+        private final AtomicLong millis;
+
+        MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.todo.auth;
+
+import com.example.todo.userapi.entity.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 수명 설정에 따른 /api/auth/refresh 호출량 시뮬레이션
+ * 회원 1만 명이 평균 30초 간격(지수 분포)으로 요청을 보내는 2시간을 시뮬레이션하고, 초당 재발급/재로그인/401 횟수를 비교한다.
+ * - 기본값(15초 / 1분), 만료 뒤 401 을 받고 나서야 재발급하는 클라이언트 (재발급 힌트 이전)
+ * - prod 설정(30분 / 14일, 만료 5분 전 힌트), 힌트를 받으면 바로 재발급하는 클라이언트
+ * 재발급은 액세스 토큰만 새로 만들므로 리프레시 토큰이 만료되면 다시 로그인(BCrypt 검사)해야 한다. (UserService.renewalAccessToken)
+ * 시작 시점의 토큰은 수명 안의 임의 시점에 발급된 것으로 둔다. -> 모두 동시에 만료되지 않도록
+ */
+class TokenRefreshSimulationTest {
+
+    private static final int CLIENTS = 10_000;
+    private static final long MEAN_INTERVAL_MILLIS = 30_000;
+    private static final long DURATION_MILLIS = Duration.ofHours(2).toMillis();
+
+    @Test
+    @DisplayName("prod 수명과 재발급 힌트를 사용하면 재발급 호출이 기본값보다 10배 이상 적고, 만료로 인한 401 이 거의 없다")
+    void prodLifetimesWithHintCutRefreshLoad() {
+        TokenProperties prod = new TokenProperties();
+        prod.setAccess(Duration.ofMinutes(30));
+        prod.setRefresh(Duration.ofDays(14));
+        prod.setRefreshHintBefore(Duration.ofMinutes(5));
+
+        Result defaults = simulate(new TokenProperties(), false);
+        Result prodWithoutHint = simulate(prod, false);
+        Result prodWithHint = simulate(prod, true);
+
+        System.out.println("설정                     요청/s   재발급/s  재로그인/s   401/s");
+        System.out.println(defaults.format("기본값 (401 후 재발급)"));
+        System.out.println(prodWithoutHint.format("prod (401 후 재발급)"));
+        System.out.println(prodWithHint.format("prod + 재발급 힌트"));
+
+        assertThat(prodWithHint.refreshesPerSecond() * 10).isLessThan(defaults.refreshesPerSecond());
+        assertThat(prodWithHint.signInsPerSecond() * 10).isLessThan(defaults.signInsPerSecond());
+        // 힌트를 받을 요청이 5분 동안 한 번도 없었던 경우에만 401
+        assertThat(prodWithHint.unauthorized() * 100).isLessThan(prodWithoutHint.unauthorized());
+    }
+
+    private static Result simulate(TokenProperties properties, boolean followHint) {
+        long access = properties.getAccessLifetime(Role.COMMON).toMillis();
+        long refresh = properties.getRefreshLifetime(Role.COMMON).toMillis();
+        long hintBefore = properties.getRefreshHintBefore().toMillis();
+        Random random = new Random(42);
+
+        long requests = 0, refreshes = 0, signIns = 0, unauthorized = 0;
+        for (int client = 0; client < CLIENTS; client++) {
+            long now = nextInterval(random);
+            long accessExpiry = now + (long) (random.nextDouble() * access);
+            long refreshExpiry = now + (long) (random.nextDouble() * refresh);
+
+            while (now < DURATION_MILLIS) {
+                requests++;
+                boolean expired = now >= accessExpiry;
+                if (expired) {
+                    unauthorized++;
+                }
+                if (expired || (followHint && accessExpiry - now < hintBefore)) {
+                    if (now < refreshExpiry) {
+                        refreshes++;
+                    } else {
+                        signIns++;
+                        refreshExpiry = now + refresh;
+                    }
+                    accessExpiry = now + access;
+                }
+                now += nextInterval(random);
+            }
+        }
+        double seconds = DURATION_MILLIS / 1000.0;
+        return new Result(requests / seconds, refreshes / seconds, signIns / seconds, unauthorized);
+    }
+
+    private static long nextInterval(Random random) {
+        return (long) (-Math.log(1 - random.nextDouble()) * MEAN_INTERVAL_MILLIS);
+    }
+
+    private record Result(double requestsPerSecond, double refreshesPerSecond, double signInsPerSecond,
+                          long unauthorized) {
+
+        String format(String name) {
+            return String.format("%-22s %8.1f %9.2f %10.3f %8.3f", name, requestsPerSecond, refreshesPerSecond,
+                    signInsPerSecond, unauthorized / (DURATION_MILLIS / 1000.0));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.todo.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행하고 같은 결과를 받는다")
+    void concurrentCallsShareOneExecution() throws Exception {
+        int callers = 32;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch arrived = new CountDownLatch(callers);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    arrived.countDown();
+                    return singleFlight.execute("user", () -> {
+                        executions.incrementAndGet();
+                        await(release);
+                        return new Object();
+                    });
+                }));
+            }
+            // 모든 요청이 실행 중인 작업을 기다리게 된 뒤에 완료시킨다.
+            assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+            waitUntil(() -> executions.get() == 1 && singleFlight.size() == 1);
+            Thread.sleep(100);
+            release.countDown();
+
+            Object first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(singleFlight.size()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패는 기다리던 요청 모두에게 전달되고, 다음 요청은 다시 실행한다")
+    void failureIsSharedButNotRemembered() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = pool.submit(() -> singleFlight.execute("user", () -> {
+                await(release);
+                throw new IllegalStateException("DB 오류");
+            }));
+            waitUntil(() -> singleFlight.size() == 1);
+            Future<Object> follower = pool.submit(() -> singleFlight.execute("user", Object::new));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(singleFlight.execute("user", () -> "재시도 성공")).isEqualTo("재시도 성공");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("기다리던 요청이 취소되어도 실행 중인 작업과 다른 요청은 영향을 받지 않는다")
+    void cancelledWaiterDoesNotCancelExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Future<Object> leader = pool.submit(() -> singleFlight.execute("user", () -> {
+                await(release);
+                return "목록";
+            }));
+            waitUntil(() -> singleFlight.size() == 1);
+
+            AtomicReference<Throwable> cancelledError = new AtomicReference<>();
+            CountDownLatch cancelledStarted = new CountDownLatch(1);
+            CountDownLatch cancelledDone = new CountDownLatch(1);
+            Future<?> cancelled = pool.submit(() -> {
+                cancelledStarted.countDown();
+                try {
+                    singleFlight.execute("user", Object::new);
+                } catch (Throwable e) {
+                    cancelledError.set(e);
+                } finally {
+                    cancelledDone.countDown();
+                }
+            });
+            Future<Object> other = pool.submit(() -> singleFlight.execute("user", Object::new));
+            assertThat(cancelledStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+
+            cancelled.cancel(true); // 기다리던 스레드를 인터럽트
+            assertThat(cancelledDone.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(cancelledError.get()).isInstanceOf(CancellationException.class);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("목록");
+            assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("목록");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("forget 이후에 도착한 요청은 실행 중인 작업을 기다리지 않고 새로 실행한다")
+    void forgetStartsNewExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> stale = pool.submit(() -> singleFlight.execute("user", () -> {
+                await(release);
+                return "변경 전 목록";
+            }));
+            waitUntil(() -> singleFlight.size() == 1);
+
+            singleFlight.forget("user");
+            assertThat(singleFlight.execute("user", () -> "변경 후 목록")).isEqualTo("변경 후 목록");
+
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("변경 전 목록");
+            assertThat(singleFlight.size()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("조건을 만족하지 못했습니다.");
+            Thread.sleep(5);
+        }
+    }
+}
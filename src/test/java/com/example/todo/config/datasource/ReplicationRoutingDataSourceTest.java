@@ -0,0 +1,139 @@
+package com.example.todo.config.datasource;
+
+import com.example.todo.auth.TokenUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원본/복제 DB 를 H2 두 개로 띄우고, 트랜잭션마다 어느 DB 에서 읽었는지 확인
+ * 각 DB 의 node 테이블에는 자기 이름(primary, replica)이 들어 있다.
+ * ReplicationDataSourceConfig 와 같이 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-0";
+
+    private final ExecutorService asyncThread = Executors.newSingleThreadExecutor();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                List.of(REPLICA), new RecentWriteTracker(Duration.ofSeconds(3)));
+        DataSource primary = node("primary");
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                REPLICA, node("replica")));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        asyncThread.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB, 그 외의 트랜잭션은 원본 DB 에서 실행한다")
+    void routesByTransactionType() {
+        assertThat(readIn(readOnlyTransaction)).isEqualTo("replica");
+        assertThat(readIn(writeTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("방금 쓰기를 한 사용자의 읽기 전용 트랜잭션은 원본 DB 에서 실행한다")
+    void recentWriterReadsFromPrimary() {
+        login("writer");
+        readIn(writeTransaction);
+
+        assertThat(readIn(readOnlyTransaction)).isEqualTo("primary");
+
+        // 다른 사용자는 그대로 복제 DB
+        login("other");
+        assertThat(readIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("SecurityContext 가 없는 비동기 스레드는 사용자를 직접 지정해야 최근 쓰기가 반영된다")
+    void asyncThreadNeedsExplicitUser() throws Exception {
+        login("writer");
+        readIn(writeTransaction);
+
+        // 지정하지 않으면 사용자를 알 수 없어서 복제 DB 로 간다.
+        assertThat(onAsyncThread(() -> readIn(readOnlyTransaction))).isEqualTo("replica");
+        assertThat(onAsyncThread(() -> {
+            try (ReadYourWritesContext.Scope ignored = ReadYourWritesContext.bind("writer")) {
+                return readIn(readOnlyTransaction);
+            }
+        })).isEqualTo("primary");
+        // 범위를 벗어나면 지정한 사용자가 지워진다.
+        assertThat(onAsyncThread(() -> readIn(readOnlyTransaction))).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("비동기 스레드에서 사용자를 지정하고 쓰면 요청 스레드의 읽기에도 반영된다")
+    void asyncWriteWithExplicitUserIsTracked() throws Exception {
+        onAsyncThread(() -> {
+            try (ReadYourWritesContext.Scope ignored = ReadYourWritesContext.bind("async-writer")) {
+                return readIn(writeTransaction);
+            }
+        });
+
+        login("async-writer");
+        assertThat(readIn(readOnlyTransaction)).isEqualTo("primary");
+    }
+
+    private String readIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String onAsyncThread(Supplier<String> task) throws Exception {
+        return CompletableFuture.supplyAsync(task, asyncThread).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void login(String userId) {
+        TokenUserInfo userInfo = TokenUserInfo.builder().userId(userId).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userInfo, null, List.of()));
+    }
+
+    // 이름이 들어 있는 H2 메모리 DB (테스트마다 같은 DB 를 다시 사용)
+    private static DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:replication-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20) PRIMARY KEY)");
+        jdbcTemplate.update("MERGE INTO node (name) KEY (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
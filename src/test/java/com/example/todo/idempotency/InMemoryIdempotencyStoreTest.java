@@ -0,0 +1,94 @@
+package com.example.todo.idempotency;
+
+import com.example.todo.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Clock START = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키와 같은 내용의 재요청은 다시 실행하지 않고 처음 결과를 돌려준다")
+    void sameKeyReturnsStoredResult() {
+        InMemoryIdempotencyStore store = newStore(10);
+
+        assertThat(store.execute("key", "body", this::run)).isEqualTo(1);
+        assertThat(store.execute("key", "body", this::run)).isEqualTo(1);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 내용이 다른 요청을 보내면 거부하고, 처음 결과는 그대로 남는다")
+    void mismatchedFingerprintIsRejected() {
+        InMemoryIdempotencyStore store = newStore(10);
+        store.execute("key", "body", this::run);
+
+        assertThatThrownBy(() -> store.execute("key", "other-body", this::run))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(store.execute("key", "body", this::run)).isEqualTo(1);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아서 같은 키로 다시 시도할 수 있다")
+    void failureIsNotStored() {
+        InMemoryIdempotencyStore store = newStore(10);
+
+        assertThatThrownBy(() -> store.execute("key", "body", () -> {
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(store.execute("key", "body", this::run)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰이지 않은 키부터 제거한다 (LRU)")
+    void evictsLeastRecentlyUsed() {
+        InMemoryIdempotencyStore store = newStore(2);
+        store.execute("a", "body", this::run);
+        store.execute("b", "body", this::run);
+        // a 를 다시 사용 -> 가장 오래 쓰이지 않은 키는 b
+        store.execute("a", "body", this::run);
+
+        store.execute("c", "body", this::run);
+
+        assertThat(executions).hasValue(3);
+        assertThat(store.execute("a", "body", this::run)).isEqualTo(1);
+        assertThat(store.execute("b", "body", this::run)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 키는 새 요청으로 처리한다")
+    void expiredKeyRunsAgain() {
+        InMemoryIdempotencyStore store = newStore(10);
+        store.execute("key", "body", this::run);
+
+        store.setClock(Clock.offset(START, TTL.minusSeconds(1)));
+        assertThat(store.execute("key", "body", this::run)).isEqualTo(1);
+
+        store.setClock(Clock.offset(START, TTL.plusSeconds(1)));
+        assertThat(store.execute("key", "other-body", this::run)).isEqualTo(2);
+    }
+
+    private InMemoryIdempotencyStore newStore(int maxEntries) {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(maxEntries, TTL);
+        store.setClock(START);
+        return store;
+    }
+
+    private Integer run() {
+        return executions.incrementAndGet();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.todo.todoapi.api;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.userapi.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/todos (findAllShared) 가 읽기 전용 트랜잭션으로 실행되어 복제 DB 로 라우팅되는지 확인
+ * ReplicationRoutingDataSourceTest 처럼 원본/복제 DB 를 H2 두 개로 띄우고, 같은 회원의 할 일을 DB 마다 다른 제목으로 넣어 둔다.
+ * -> 응답의 제목을 보면 어느 DB 에서 읽었는지 알 수 있다.
+ * (복제는 하지 않으므로 스키마는 원본 DB 에서 복사해서 만든다.)
+ */
+@SpringBootTest(properties = {
+        "datasource.replication.enabled=true",
+        "datasource.replication.primary.url=" + TodoListReplicaRoutingTest.PRIMARY_URL,
+        "datasource.replication.primary.username=sa",
+        "datasource.replication.replicas[0].url=" + TodoListReplicaRoutingTest.REPLICA_URL,
+        "datasource.replication.replicas[0].username=sa",
+        // embedded 프로필은 /api/auth/** 를 모두 열어 두므로 토큰이 필요한 요청은 인증하도록 좁힌다.
+        "request.permit-all-patterns=/api/auth/signin,/api/auth/check"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class TodoListReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static boolean replicaSchemaCreated;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        // ddl-auto 는 원본 DB 에만 테이블을 만든다. -> 같은 스키마를 복제 DB 에도 만든다.
+        if (!replicaSchemaCreated) {
+            primary.queryForList("SCRIPT NODATA", String.class).stream()
+                    .filter(statement -> !statement.startsWith("--"))
+                    .forEach(replica::execute);
+            replicaSchemaCreated = true;
+        }
+
+        User user = User.builder()
+                .id(UUID.randomUUID().toString())
+                .email(UUID.randomUUID() + "@todo.local")
+                .password("password")
+                .userName("routing")
+                .build();
+        insertUserWithTodo(primary, user, "원본 DB");
+        insertUserWithTodo(replica, user, "복제 DB");
+        token = tokenProvider.createAccessKey(user);
+    }
+
+    @Test
+    @DisplayName("할 일 목록 조회는 복제 DB 에서 읽는다")
+    void todoListReadsFromReplica() throws Exception {
+        mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos[*].title", contains("복제 DB")));
+    }
+
+    @Test
+    @DisplayName("방금 할 일을 등록한 회원의 목록 조회는 원본 DB 에서 읽는다")
+    void todoListAfterWriteReadsFromPrimary() throws Exception {
+        mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"새 할 일\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos[*].title", hasItem("원본 DB")))
+                .andExpect(jsonPath("$.todos[*].title", hasItem("새 할 일")));
+    }
+
+    private static void insertUserWithTodo(JdbcTemplate jdbcTemplate, User user, String title) {
+        jdbcTemplate.update("INSERT INTO tbl_user (user_id, email, password, user_name, role) VALUES (?, ?, ?, ?, 'COMMON')",
+                user.getId(), user.getEmail(), user.getPassword(), user.getUserName());
+        jdbcTemplate.update("INSERT INTO tbl_todo (todo_id, title, done, version, user_id) VALUES (?, ?, false, 0, ?)",
+                UUID.randomUUID().toString(), title, user.getId());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.todo.todoapi.event;
+
+import com.example.todo.auth.TokenProvider;
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.userapi.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트를 읽지 않는 클라이언트(느린 소비자)가 있을 때 SSE 전송이 제한 시간 안에 정리되는지 확인
+ * 실제 톰캣에 받기 버퍼를 작게 잡고 읽지 않는 소켓으로 연결한 뒤, 큰 이벤트를 계속 보내서 서버 쓰기를 막는다.
+ * - send-timeout 이 지나면 연결 목록에서 빠지고, 기본 전송 스레드(1개)가 막혀 있어도 다른 회원의 전송은 계속된다.
+ * - 막힌 쓰기는 커넥터의 쓰기 제한 시간(server.tomcat.connection-timeout)이 지나면 끝나고 스레드가 풀린다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.stream.sender-threads=1",
+        "todo.stream.send-timeout=500ms",
+        "todo.stream.send-check-interval=100ms",
+        "todo.stream.queue-capacity=1000",
+        "server.tomcat.connection-timeout=3s",
+        // embedded 프로필은 /api/auth/** 를 모두 열어 두므로 토큰이 필요한 요청은 인증하도록 좁힌다.
+        "request.permit-all-patterns=/api/auth/signin,/api/auth/check"
+})
+@ActiveProfiles("embedded")
+class TodoEventBroadcasterSlowConsumerTest {
+
+    // 이벤트 하나의 크기를 키워서 소켓 버퍼를 빨리 채운다.
+    private static final String LARGE_TITLE = "x".repeat(1024 * 1024);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TodoEventBroadcaster broadcaster;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TokenProvider tokenProvider;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Socket slowClient;
+    private Socket readingClient;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (slowClient != null) slowClient.close();
+        if (readingClient != null) readingClient.close();
+    }
+
+    @Test
+    @DisplayName("읽지 않는 연결은 send-timeout 에 목록에서 빠지고, 막힌 쓰기는 커넥터 제한 시간 안에 끝난다")
+    void stalledSendIsDetachedAndReleased() throws Exception {
+        String slowUserId = createUser();
+        String readingUserId = createUser();
+
+        slowClient = new Socket();
+        slowClient.setReceiveBufferSize(1024);
+        subscribe(slowClient, slowUserId);
+        readingClient = new Socket();
+        BufferedReader readingEvents = subscribe(readingClient, readingUserId);
+        waitUntil(() -> gauge("todo.stream.connections") == 2, 5);
+
+        // 서버 쓰기가 막혀서 연결이 목록에서 빠질 때까지 큰 이벤트를 보낸다.
+        TodoDetailResponseDTO largeTodo = new TodoDetailResponseDTO("large", LARGE_TITLE, false, 0);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (gauge("todo.stream.connections") != 1) {
+            if (System.nanoTime() > deadline) throw new AssertionError("서버 쓰기가 막히지 않았습니다.");
+            broadcaster.onTodoChanged(TodoChangedEvent.created(slowUserId, largeTodo));
+            Thread.sleep(20);
+        }
+        assertThat(gauge("todo.stream.stalled.sends")).isEqualTo(1);
+
+        // 하나뿐인 기본 전송 스레드가 막혀 있어도 다른 회원에게는 전송된다.
+        broadcaster.onTodoChanged(TodoChangedEvent.deleted(readingUserId, "todo-1"));
+        waitUntil(() -> nextEventName(readingEvents).equals("deleted"), 5);
+
+        // 막힌 쓰기는 connection-timeout(3초) 뒤에 끝난다. (인터럽트로는 끝나지 않음)
+        waitUntil(() -> gauge("todo.stream.stalled.sends") == 0, 10);
+        assertThat(gauge("todo.stream.connections")).isEqualTo(1);
+    }
+
+    private String createUser() {
+        String userId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO tbl_user (user_id, email, password, user_name, role) VALUES (?, ?, ?, ?, 'COMMON')",
+                userId, userId + "@todo.local", "password", "stream");
+        return userId;
+    }
+
+    // 구독 요청을 보내고 응답 헤더까지 읽은 뒤, 본문을 읽을 수 있는 reader 를 리턴 (느린 소비자는 더 읽지 않음)
+    private BufferedReader subscribe(Socket socket, String userId) throws IOException {
+        User user = User.builder()
+                .id(userId)
+                .email(userId + "@todo.local")
+                .password("password")
+                .userName("stream")
+                .build();
+        socket.connect(new InetSocketAddress("127.0.0.1", port), 2000);
+        socket.setSoTimeout(5000);
+        socket.getOutputStream().write(("GET /api/todos/stream HTTP/1.1\r\n" +
+                "Host: 127.0.0.1\r\n" +
+                "Accept: text/event-stream\r\n" +
+                "Authorization: Bearer " + tokenProvider.createAccessKey(user) + "\r\n\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+        socket.getOutputStream().flush();
+
+        InputStream in = socket.getInputStream();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String statusLine = reader.readLine();
+        assertThat(statusLine).contains(" 200 ");
+        return reader;
+    }
+
+    // 다음 이벤트 이름 (event:이름 줄), 읽을 수 없으면 빈 문자열
+    private static String nextEventName(BufferedReader reader) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("event:")) return line.substring("event:".length()).trim();
+            }
+        } catch (IOException e) {
+            // 제한 시간 안에 이벤트가 없음
+        }
+        return "";
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static void waitUntil(BooleanSupplier condition, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("조건을 만족하지 못했습니다.");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.todo.todoapi.service;
+
+import com.example.todo.todoapi.dto.response.TodoDetailResponseDTO;
+import com.example.todo.todoapi.dto.response.TodoListResponseDTO;
+import com.example.todo.todoapi.repository.TodoRepository;
+import com.example.todo.userapi.repository.UserRepository;
+import com.example.todo.userapi.service.UserSnapshotCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodoServiceStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoService todoService = new TodoService(
+            todoRepository, mock(UserRepository.class), mock(UserSnapshotCache.class), objectMapper,
+            mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("스트리밍 응답은 기존 목록 응답과 같은 JSON 을 만든다")
+    void writesSameJsonAsListResponse() throws IOException {
+        List<TodoDetailResponseDTO> todos = List.of(
+                new TodoDetailResponseDTO("1", "장보기", false, 0),
+                new TodoDetailResponseDTO("2", "\"따옴표\" 제목", true, 3)
+        );
+        when(todoRepository.streamAllByUserId("user")).thenReturn(todos.stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        todoService.writeAll("user", out);
+
+        String expected = objectMapper.writeValueAsString(TodoListResponseDTO.builder().todos(todos).build());
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("10만 건도 목록을 만들지 않고 끝까지 쓴 뒤 스트림을 닫는다")
+    void streamsLargeListAndClosesStream() throws IOException {
+        int count = 100_000;
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TodoDetailResponseDTO> todos = IntStream.range(0, count)
+                .mapToObj(i -> new TodoDetailResponseDTO(String.valueOf(i), "할 일 " + i, i % 2 == 0, 0))
+                .onClose(() -> closed.set(true));
+        when(todoRepository.streamAllByUserId("user")).thenReturn(todos);
+
+        CountingOutputStream out = new CountingOutputStream();
+        todoService.writeAll("user", out);
+
+        assertThat(out.bytes).isGreaterThan(count * 40L);
+        assertThat(closed).isTrue();
+        // 한 건마다 flush 하지 않는다. (끝에서 한 번만)
+        assertThat(out.flushes).isLessThanOrEqualTo(1);
+        // 응답 스트림은 서블릿 컨테이너가 닫는다.
+        assertThat(out.closed).isFalse();
+    }
+
+    // 받은 바이트 수와 flush 횟수만 세고 버리는 출력 스트림
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+        int flushes;
+        boolean closed;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
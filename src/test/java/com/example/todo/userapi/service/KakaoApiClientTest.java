@@ -0,0 +1,162 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.config.KakaoClientProperties;
+import com.example.todo.config.KakaoResilienceConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 지연과 장애를 흉내 내는 로컬 카카오 서버를 상대로 서킷 브레이커, 벌크헤드, 재시도를 확인
+class KakaoApiClientTest {
+
+    private HttpServer kakaoStub;
+    private final AtomicInteger stubHits = new AtomicInteger();
+    private volatile int stubStatus = 200;
+    private volatile long stubDelayMillis = 0;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KakaoClientProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        kakaoStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        kakaoStub.setExecutor(Executors.newCachedThreadPool());
+        kakaoStub.createContext("/v2/user/me", this::respond);
+        kakaoStub.start();
+        String stubUri = "http://localhost:" + kakaoStub.getAddress().getPort();
+
+        properties = new KakaoClientProperties();
+        properties.setAuthUri(stubUri);
+        properties.setApiUri(stubUri);
+        properties.setResponseTimeout(Duration.ofMillis(500));
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getRetry().setInitialInterval(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 지터를 둔 재시도 후에 성공할 수 있다")
+    void retriesServerErrors() {
+        KakaoApiClient client = createClient();
+        // 첫 번째 요청만 실패하고 이후에는 정상 응답
+        kakaoStub.removeContext("/v2/user/me");
+        kakaoStub.createContext("/v2/user/me", exchange -> {
+            stubStatus = stubHits.get() == 0 ? 503 : 200;
+            respond(exchange);
+        });
+
+        assertThat(client.getUserInfo("token").block()).isNotNull();
+        assertThat(stubHits.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카카오가 계속 실패하면 서킷이 열리고 이후 요청은 카카오를 호출하지 않고 바로 실패한다")
+    void opensCircuitOnRepeatedFailures() {
+        properties.getRetry().setMaxAttempts(1);
+        KakaoResilienceConfig config = new KakaoResilienceConfig(properties, meterRegistry);
+        CircuitBreaker circuitBreaker = config.kakaoCircuitBreaker();
+        KakaoApiClient client = createClient(config, circuitBreaker);
+        stubStatus = 500;
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.getUserInfo("token").block());
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int hitsBeforeOpen = stubHits.get();
+        assertThatThrownBy(() -> client.getUserInfo("token").block())
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(stubHits.get()).isEqualTo(hitsBeforeOpen);
+        // 상태 전환이 메트릭으로 기록됨
+        assertThat(meterRegistry.counter("kakao.circuitbreaker.transitions",
+                "from", "CLOSED", "to", "OPEN").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 카카오 장애로 보지 않아 서킷이 열리지 않는다")
+    void clientErrorsDoNotOpenCircuit() {
+        KakaoResilienceConfig config = new KakaoResilienceConfig(properties, meterRegistry);
+        CircuitBreaker circuitBreaker = config.kakaoCircuitBreaker();
+        KakaoApiClient client = createClient(config, circuitBreaker);
+        stubStatus = 401;
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> client.getUserInfo("token").block());
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        // 재시도하지 않음
+        assertThat(stubHits.get()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수를 넘으면 기다리지 않고 바로 실패한다")
+    void bulkheadRejectsExcessCalls() {
+        properties.setMaxConcurrentCalls(2);
+        properties.getRetry().setMaxAttempts(1);
+        KakaoApiClient client = createClient();
+        stubDelayMillis = 300;
+
+        List<Object> results = Flux.range(0, 5)
+                .flatMap(i -> client.getUserInfo("token")
+                        .<Object>map(user -> user)
+                        .onErrorResume(e -> Mono.just(e)))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).filteredOn(BulkheadFullException.class::isInstance).hasSize(3);
+        assertThat(stubHits.get()).isEqualTo(2);
+    }
+
+    private KakaoApiClient createClient() {
+        KakaoResilienceConfig config = new KakaoResilienceConfig(properties, meterRegistry);
+        return createClient(config, config.kakaoCircuitBreaker());
+    }
+
+    private KakaoApiClient createClient(KakaoResilienceConfig config, CircuitBreaker circuitBreaker) {
+        return new KakaoApiClient(WebClient.builder(), properties,
+                circuitBreaker, config.kakaoBulkhead(), config.kakaoRetry(),
+                "client-id", "http://localhost/redirect", "secret");
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        stubHits.incrementAndGet();
+        try {
+            Thread.sleep(stubDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = "{\"id\":1,\"kakao_account\":{\"email\":\"kakao@test.com\"}}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(stubStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
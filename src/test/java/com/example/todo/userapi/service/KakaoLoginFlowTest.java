@@ -0,0 +1,171 @@
+package com.example.todo.userapi.service;
+
+import com.example.todo.auth.LoginProvider;
+import com.example.todo.auth.TokenUserInfo;
+import com.example.todo.userapi.dto.response.LoginResponseDTO;
+import com.example.todo.userapi.entity.Role;
+import com.example.todo.userapi.entity.User;
+import com.example.todo.userapi.repository.UserRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Flux;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오 응답을 기다리는 동안 DB 커넥션을 붙잡지 않는지 실제 컨텍스트(H2 + 커넥션 2개짜리 Hikari 풀)로 확인
+ * - 카카오 스텁이 요청을 받은 순간(= 카카오 응답 대기 중)의 사용 중인 커넥션 수를 기록
+ * - 커넥션을 기다리는 시간을 짧게 잡아서, 카카오 통신 동안 커넥션을 붙잡는다면 동시 로그인이 커넥션 타임아웃으로 실패
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + KakaoLoginFlowTest.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=" + KakaoLoginFlowTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=250"
+})
+@ActiveProfiles("embedded")
+class KakaoLoginFlowTest {
+
+    static final int POOL_SIZE = 2;
+    // 카카오 서버 응답 지연 (로그인 1건당 토큰 발급 + 사용자 조회 = 2번)
+    private static final long KAKAO_DELAY_MILLIS = 300;
+    private static final int CONCURRENT_LOGINS = 20;
+
+    private static final HttpServer kakaoStub = startKakaoStub();
+    // 카카오 스텁이 요청을 받았을 때 풀에서 사용 중이던 커넥션 수 (가장 큰 값)
+    private static final AtomicInteger maxActiveWhileWaitingForKakao = new AtomicInteger();
+    private static volatile HikariPoolMXBean pool;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        String stubUri = "http://localhost:" + kakaoStub.getAddress().getPort();
+        registry.add("kakao.http.auth-uri", () -> stubUri);
+        registry.add("kakao.http.api-uri", () -> stubUri);
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // p6spy 가 감싼 DataSource 에서 Hikari 풀을 꺼낸다.
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        maxActiveWhileWaitingForKakao.set(0);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        kakaoStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("OSIV 가 꺼져 있어서 요청이 끝날 때까지 커넥션을 붙잡지 않는다")
+    void openInViewIsDisabled() {
+        assertThat(context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카카오 로그인/로그아웃은 카카오 응답을 기다리는 동안 커넥션을 사용하지 않는다")
+    void noConnectionHeldWhileWaitingForKakao() {
+        LoginResponseDTO login = userService.kakaoService("code").block(Duration.ofSeconds(5));
+        assertThat(login).isNotNull();
+
+        User user = userRepository.findByEmail("kakao@test.com").orElseThrow();
+        TokenUserInfo userInfo = TokenUserInfo.builder()
+                .userId(user.getId())
+                .tokenId(UUID.randomUUID().toString())
+                .email(user.getEmail())
+                .role(Role.COMMON)
+                .expiresAt(Instant.now().plusSeconds(60))
+                .provider(LoginProvider.KAKAO)
+                .build();
+        userService.logout(userInfo).block(Duration.ofSeconds(5));
+
+        assertThat(maxActiveWhileWaitingForKakao.get()).isZero();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getAccessToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("카카오 응답이 느려도 동시 로그인이 커넥션 풀을 고갈시키지 않는다")
+    void slowKakaoDoesNotStarveConnectionPool() {
+        // 카카오 통신(600ms) 동안 커넥션을 붙잡았다면 커넥션 2개로는
+        // 나머지 요청이 250ms 안에 커넥션을 얻지 못하고 실패한다.
+        List<LoginResponseDTO> responses = Flux.range(0, CONCURRENT_LOGINS)
+                .flatMap(i -> userService.kakaoService("code-" + i))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responses).hasSize(CONCURRENT_LOGINS)
+                .allSatisfy(response -> assertThat(response.getEmail()).isEqualTo("kakao@test.com"));
+        assertThat(pool.getThreadsAwaitingConnection()).isZero();
+        assertThat(pool.getActiveConnections()).isZero();
+    }
+
+    private static HttpServer startKakaoStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/oauth/token", exchange ->
+                    respondSlowly(exchange, "{\"access_token\":\"kakao-access-token\"}"));
+            server.createContext("/v2/user/me", exchange ->
+                    respondSlowly(exchange, "{\"id\":1,\"kakao_account\":{\"email\":\"kakao@test.com\","
+                            + "\"profile\":{\"nickname\":\"kakao\",\"profile_image_url\":\"http://img\"}}}"));
+            server.createContext("/v1/user/logout", exchange ->
+                    respondSlowly(exchange, "{\"id\":1}"));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respondSlowly(HttpExchange exchange, String json) throws IOException {
+        HikariPoolMXBean currentPool = pool;
+        if (currentPool != null) {
+            maxActiveWhileWaitingForKakao.accumulateAndGet(currentPool.getActiveConnections(), Math::max);
+        }
+        try {
+            Thread.sleep(KAKAO_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}